@@ -0,0 +1,77 @@
+package com.fishgo.posts.comments.dto.mapper;
+
+import com.fishgo.posts.comments.domain.CommentStatus;
+import com.fishgo.posts.comments.dto.projection.ParentCommentProjection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부모 댓글 Projection -> 응답 DTO 변환 비용 측정 (gradle jmh, -prof gc 의 gc.alloc.rate.norm 이 행당 할당 바이트)
+ * 행의 절반은 첫 번째 대댓글과 멘션을 가지고, 일부는 삭제 상태입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CommentMapperBenchmark {
+
+    private static final int ROWS = 1024;
+
+    private final CommentMapper commentMapper = new CommentMapperImpl();
+    private ParentCommentProjection[] rows;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+        rows = new ParentCommentProjection[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            boolean hasReply = i % 2 == 0;
+            CommentStatus status = i % 10 == 0 ? CommentStatus.DELETED_BY_USER : CommentStatus.ACTIVE;
+            rows[i] = new StubProjection(
+                    (long) i, 1000L + i, "부모 댓글 내용 " + i, now, now, i % 50, "낚시꾼" + i, "profile.png", status,
+                    hasReply ? 100_000L + i : null, hasReply ? i % 7 : 0,
+                    hasReply ? 2000L + i : null, hasReply ? "대댓글 내용 " + i : null, hasReply ? now : null,
+                    hasReply ? now : null, hasReply ? i % 5 : null, hasReply ? CommentStatus.ACTIVE : null,
+                    hasReply ? "reply.png" : null, hasReply ? "답글러" + i : null,
+                    hasReply ? 1000L + i : null, hasReply ? "낚시꾼" + i : null,
+                    hasReply ? 3000L + i : null, hasReply ? "멘션" + i : null);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void projectionToResponse(Blackhole blackhole) {
+        for (ParentCommentProjection row : rows) {
+            blackhole.consume(commentMapper.projectionToResponse(row));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void projectionToFirstReply(Blackhole blackhole) {
+        for (ParentCommentProjection row : rows) {
+            blackhole.consume(commentMapper.projectionToFirstReply(row));
+        }
+    }
+
+    // 네이티브 쿼리 결과 대신 사용하는 고정 값 Projection
+    private record StubProjection(
+            Long getCommentId, Long getUserId, String getContents, LocalDateTime getCreatedAt,
+            LocalDateTime getUpdatedAt, Integer getLikeCount, String getName, String getProfileImg,
+            CommentStatus getStatus, Long getFirstReplyId, Integer getRemainingReplyCount,
+            Long getFirstReplyUserId, String getFirstReplyContents, LocalDateTime getFirstReplyCreatedAt,
+            LocalDateTime getFirstReplyUpdatedAt, Integer getFirstReplyLikeCount, CommentStatus getFirstReplyStatus,
+            String getFirstReplyProfileImg, String getFirstReplyName, Long getFirstReplyMentionUserId,
+            String getFirstReplyMentionUserName, Long getMentionUserId, String getMentionUserName
+    ) implements ParentCommentProjection {
+    }
+}
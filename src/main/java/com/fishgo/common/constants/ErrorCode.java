@@ -28,7 +28,9 @@ public enum ErrorCode {
 
     REDIS_CONNECTION_FAILURE(500001),
     INTERNAL_SERVER_ERROR(500002),
-    JSON_PARSE_ERROR(500003);
+    JSON_PARSE_ERROR(500003),
+
+    SERVICE_UNAVAILABLE(503001);
 
     private final int code;
 
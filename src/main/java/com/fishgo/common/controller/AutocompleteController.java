@@ -0,0 +1,50 @@
+package com.fishgo.common.controller;
+
+import com.fishgo.common.response.ApiResponse;
+import com.fishgo.common.service.AutocompleteService;
+import com.fishgo.users.dto.UserNameSuggestionDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "자동완성 API", description = "해시태그 및 닉네임 자동완성")
+@RestController
+@RequestMapping("/autocomplete")
+@RequiredArgsConstructor
+public class AutocompleteController {
+
+    private final AutocompleteService autocompleteService;
+
+    @Operation(summary = "해시태그 자동완성", description = "접두어로 시작하는 해시태그를 게시글 수 순으로 조회합니다.")
+    @GetMapping("/hashtags")
+    public ResponseEntity<ApiResponse<List<String>>> autocompleteHashtags(
+            @Parameter(description = "검색할 접두어", example = "붕")
+            @RequestParam String prefix,
+            @Parameter(description = "최대 조회 개수 (최대 20)")
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+
+        List<String> result = autocompleteService.searchHashtags(prefix, limit);
+        return ResponseEntity.ok(new ApiResponse<>("해시태그 자동완성 조회 성공", HttpStatus.OK.value(), result));
+    }
+
+    @Operation(summary = "닉네임 자동완성", description = "접두어로 시작하는 닉네임과 유저 아이디를 게시글 수 순으로 조회합니다. (댓글 멘션용)")
+    @GetMapping("/users")
+    public ResponseEntity<ApiResponse<List<UserNameSuggestionDto>>> autocompleteProfileNames(
+            @Parameter(description = "검색할 접두어", example = "낚시")
+            @RequestParam String prefix,
+            @Parameter(description = "최대 조회 개수 (최대 20)")
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+
+        List<UserNameSuggestionDto> result = autocompleteService.searchProfileNames(prefix, limit);
+        return ResponseEntity.ok(new ApiResponse<>("닉네임 자동완성 조회 성공", HttpStatus.OK.value(), result));
+    }
+}
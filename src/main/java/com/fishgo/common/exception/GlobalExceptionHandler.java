@@ -50,8 +50,11 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(CustomException.class)
     public ResponseEntity<ApiResponse<String>> handleCustomException(CustomException ex, HttpServletRequest request) {
         log.error("CustomException at {} : {}", request.getRequestURI(), ex.getMessage(), ex);
+        // 일시적인 과부하는 클라이언트가 재시도할 수 있도록 503 으로 응답
+        HttpStatus status = ex.getCode() == ErrorCode.SERVICE_UNAVAILABLE.getCode()
+                ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.BAD_REQUEST;
         return ResponseEntity
-                .status(HttpStatus.BAD_REQUEST)
+                .status(status)
                 .body(new ApiResponse<>(ex.getMessage(), ex.getCode()));
     }
 
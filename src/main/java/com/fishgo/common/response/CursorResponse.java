@@ -0,0 +1,23 @@
+package com.fishgo.common.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Schema(description = "커서 기반 목록 응답 객체")
+@Getter
+@AllArgsConstructor
+public class CursorResponse<T> {
+
+    @Schema(description = "조회된 데이터 리스트")
+    private List<T> content;
+
+    @Schema(description = "다음 목록 조회 시 전달할 커서 (마지막 페이지면 null)")
+    private String nextCursor;
+
+    @Schema(description = "다음 목록 존재 여부")
+    private boolean hasNext;
+
+}
@@ -0,0 +1,122 @@
+package com.fishgo.common.service;
+
+import com.fishgo.common.util.PrefixIndex;
+import com.fishgo.posts.dto.projection.HashtagCountProjection;
+import com.fishgo.posts.event.HashtagPostCountChangedEvent;
+import com.fishgo.posts.respository.HashtagRepository;
+import com.fishgo.users.dto.UserNameSuggestionDto;
+import com.fishgo.users.dto.projection.ProfileNameCountProjection;
+import com.fishgo.users.event.ProfileNameChangedEvent;
+import com.fishgo.users.repository.ProfileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 해시태그/닉네임 자동완성
+ * - 시작 시 DB 에서 전체 목록을 읽어 인메모리 접두어 색인을 만들고, 이후에는 이벤트로 증분 반영합니다.
+ * - 해시태그는 게시글 수, 닉네임은 활성 게시글 수 순으로 정렬합니다.
+ * - 회원 탈퇴 등 일괄 변경분은 주기적인 전체 재적재로 맞춥니다.
+ *   재적재 중 도착한 이벤트는 모아 두었다가 새 색인에 다시 반영하므로, DB 를 읽은 뒤 교체 전까지의 변경도 유실되지 않습니다.
+ *   (이름 변경은 다시 반영해도 결과가 같고, 점수는 순위 용도라 읽기 직전 커밋분이 중복 반영되어도 무방)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AutocompleteService {
+
+    public static final int MAX_LIMIT = 20;
+
+    private final HashtagRepository hashtagRepository;
+    private final ProfileRepository profileRepository;
+
+    private final PrefixIndex hashtagIndex = new PrefixIndex();
+    private final PrefixIndex profileNameIndex = new PrefixIndex();
+
+    // 재적재 중 도착한 변경 (재적재 중이 아니면 null, changeLock 으로 보호)
+    private final Object changeLock = new Object();
+    private List<Runnable> changesDuringReload;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        reload();
+    }
+
+    @Scheduled(fixedDelay = 10 * 60 * 1000, initialDelay = 10 * 60 * 1000)
+    public synchronized void reload() {
+        synchronized (changeLock) {
+            changesDuringReload = new ArrayList<>();
+        }
+
+        try {
+            Map<String, Long> hashtags = new HashMap<>();
+            for (HashtagCountProjection row : hashtagRepository.findAllNameAndPostCount()) {
+                hashtags.put(row.getName(), row.getPostCount());
+            }
+
+            List<PrefixIndex.Entry> profileNames = new ArrayList<>();
+            for (ProfileNameCountProjection row : profileRepository.findAllActiveNameAndPostCount()) {
+                profileNames.add(new PrefixIndex.Entry(row.getName(), row.getUserId(), row.getPostCount()));
+            }
+
+            synchronized (changeLock) {
+                hashtagIndex.load(hashtags);
+                profileNameIndex.load(profileNames);
+                changesDuringReload.forEach(Runnable::run);
+            }
+        } finally {
+            synchronized (changeLock) {
+                changesDuringReload = null;
+            }
+        }
+
+        log.debug("Autocomplete index loaded: hashtags={}, profileNames={}", hashtagIndex.size(), profileNameIndex.size());
+    }
+
+    public List<String> searchHashtags(String prefix, int limit) {
+        return hashtagIndex.search(prefix, Math.min(limit, MAX_LIMIT));
+    }
+
+    public List<UserNameSuggestionDto> searchProfileNames(String prefix, int limit) {
+        return profileNameIndex.searchEntries(prefix, Math.min(limit, MAX_LIMIT)).stream()
+                .map(entry -> new UserNameSuggestionDto(entry.id(), entry.value()))
+                .toList();
+    }
+
+    @TransactionalEventListener
+    public void handleHashtagPostCountChangedEvent(HashtagPostCountChangedEvent event) {
+        applyChange(() -> {
+            for (String name : event.names()) {
+                hashtagIndex.addScore(name, event.delta());
+            }
+        });
+    }
+
+    // 닉네임 변경은 트랜잭션 밖에서 발생하므로 fallbackExecution 사용
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleProfileNameChangedEvent(ProfileNameChangedEvent event) {
+        applyChange(() -> {
+            long score = profileNameIndex.remove(event.oldName());
+            profileNameIndex.add(event.newName(), event.userId(), score);
+        });
+    }
+
+    // 현재 색인에 반영하고, 재적재 중이면 새 색인에도 반영되도록 보관
+    private void applyChange(Runnable change) {
+        synchronized (changeLock) {
+            change.run();
+            if (changesDuringReload != null) {
+                changesDuringReload.add(change);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.fishgo.common.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 여러 서버 중 한 곳에서만 작업을 실행하기 위한 Redis 잠금
+ * - 잠금마다 고유 토큰을 값으로 저장하고, 해제 시 토큰이 같을 때만 삭제합니다.
+ *   (작업이 TTL 을 넘겨 잠금이 만료된 뒤 다른 서버가 얻은 잠금을 지우지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+public class RedisLockService {
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * @return 잠금을 얻었으면 해제에 사용할 토큰, 아니면 null
+     */
+    public String tryLock(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        return Boolean.TRUE.equals(locked) ? token : null;
+    }
+
+    /**
+     * 자신이 얻은 잠금일 때만 해제합니다.
+     */
+    public void unlock(String key, String token) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+    }
+}
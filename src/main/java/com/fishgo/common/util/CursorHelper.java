@@ -0,0 +1,103 @@
+package com.fishgo.common.util;
+
+import com.fishgo.common.constants.ErrorCode;
+import com.fishgo.common.exception.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+public class CursorHelper {
+
+    private static final String DELIMITER = "|";
+    private static final Pattern DELIMITER_PATTERN = Pattern.compile(Pattern.quote(DELIMITER));
+
+    /**
+     * (createdAt, id) 를 클라이언트에 전달할 불투명(opaque) 커서 문자열로 인코딩합니다.
+     */
+    public static String encode(LocalDateTime createdAt, long id) {
+        return encodeParts(createdAt, id);
+    }
+
+    /**
+     * 커서 문자열을 (createdAt, id) 로 디코딩합니다.
+     */
+    public static Cursor decode(String cursor) {
+        return decodeParts(cursor, 2, parts -> new Cursor(
+                LocalDateTime.parse(parts[0]),
+                Long.parseLong(parts[1])
+        ));
+    }
+
+    /**
+     * (distance, id) 를 커서 문자열로 인코딩합니다. (거리순 정렬용)
+     */
+    public static String encodeDistance(double distance, long id) {
+        return encodeParts(distance, id);
+    }
+
+    /**
+     * 커서 문자열을 (distance, id) 로 디코딩합니다.
+     */
+    public static DistanceCursor decodeDistance(String cursor) {
+        return decodeParts(cursor, 2, parts -> new DistanceCursor(
+                Double.parseDouble(parts[0]),
+                Long.parseLong(parts[1])
+        ));
+    }
+
+    /**
+     * (createdAt, id, 지금까지 본 개수) 를 커서 문자열로 인코딩합니다. (대댓글 조회용)
+     * 본 개수를 함께 담아 남은 개수를 COUNT 쿼리 없이 계산합니다.
+     */
+    public static String encodeReply(LocalDateTime createdAt, long id, long seen) {
+        return encodeParts(createdAt, id, seen);
+    }
+
+    /**
+     * 커서 문자열을 (createdAt, id, 지금까지 본 개수) 로 디코딩합니다.
+     */
+    public static ReplyCursor decodeReply(String cursor) {
+        return decodeParts(cursor, 3, parts -> new ReplyCursor(
+                LocalDateTime.parse(parts[0]),
+                Long.parseLong(parts[1]),
+                Long.parseLong(parts[2])
+        ));
+    }
+
+    // 값들을 구분자로 이어 URL 안전 Base64 로 인코딩
+    private static String encodeParts(Object... values) {
+        StringJoiner raw = new StringJoiner(DELIMITER);
+        for (Object value : values) {
+            raw.add(String.valueOf(value));
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Base64 디코딩 후 구분자로 나눠 변환 (형식이 맞지 않으면 잘못된 요청으로 처리)
+    private static <T> T decodeParts(String cursor, int count, Function<String[], T> parser) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = DELIMITER_PATTERN.split(raw, -1);
+            if (parts.length != count) {
+                throw new IllegalArgumentException("Unexpected cursor part count: " + parts.length);
+            }
+            return parser.apply(parts);
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.BAD_REQUEST.getCode(), "유효하지 않은 커서입니다.");
+        }
+    }
+
+    public record Cursor(LocalDateTime createdAt, long id) {
+    }
+
+    public record ReplyCursor(LocalDateTime createdAt, long id, long seen) {
+    }
+
+    public record DistanceCursor(double distance, long id) {
+    }
+}
@@ -0,0 +1,205 @@
+package com.fishgo.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 지오해시 인코딩 및 영역 범위 계산 유틸리티.
+ * 지오해시 문자열은 사전순 정렬이 Z-order 곡선을 따르므로, 영역을 덮는 셀들을 문자열 범위로 바꿔
+ * 일반 B-tree 인덱스의 범위 검색으로 조회할 수 있습니다.
+ * 범위는 바이트 순서(COLLATE "C") 기준이므로, 인덱스와 조회 조건 모두 COLLATE "C" 를 사용해야 합니다.
+ */
+public class GeoHashHelper {
+
+    public static final int MAX_PRECISION = 9;
+
+    // 모든 지오해시 문자보다 큰 문자 (범위 상한 없음)
+    // 바이트 순서 기준이므로 DB 에서는 반드시 COLLATE "C" 로 비교해야 함 (기본 collation 에서는 문자보다 작게 정렬될 수 있음)
+    private static final String UNBOUNDED = "~";
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    /**
+     * 위경도를 지오해시로 인코딩합니다.
+     * @param lat 위도
+     * @param lon 경도
+     * @param precision 문자 길이 (1 ~ 12)
+     * @return 지오해시 문자열
+     */
+    public static String encode(double lat, double lon, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+
+        StringBuilder sb = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+
+        while (sb.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (lon >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLon = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (lat >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                sb.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 지오해시 셀의 중심 좌표를 반환합니다.
+     * @return {위도, 경도}
+     */
+    public static double[] decodeCenter(String hash) {
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+        boolean evenBit = true;
+
+        for (int i = 0; i < hash.length(); i++) {
+            int index = indexOf(hash.charAt(i));
+            for (int bit = 4; bit >= 0; bit--) {
+                boolean on = ((index >> bit) & 1) == 1;
+                if (evenBit) {
+                    double mid = (minLon + maxLon) / 2;
+                    if (on) minLon = mid; else maxLon = mid;
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (on) minLat = mid; else maxLat = mid;
+                }
+                evenBit = !evenBit;
+            }
+        }
+        return new double[]{(minLat + maxLat) / 2, (minLon + maxLon) / 2};
+    }
+
+    /**
+     * 영역을 덮는 지오해시 셀들을 [low, high) 문자열 범위 목록으로 반환합니다.
+     * 셀 개수가 maxCells 이하가 되는 가장 높은 정밀도를 사용하고, 사전순으로 연속된 셀은 하나의 범위로 합칩니다.
+     * @param maxCells 최대 셀 개수 (범위 개수의 상한)
+     * @return 범위 목록
+     */
+    public static List<Range> coverRanges(double minLat, double minLon, double maxLat, double maxLon, int maxCells) {
+        return coverRanges(minLat, minLon, maxLat, maxLon, maxCells, MAX_PRECISION);
+    }
+
+    /**
+     * 정밀도 상한을 지정한 coverRanges (고정 정밀도로 저장된 셀을 조회할 때 사용)
+     * @param maxPrecision 사용할 최대 정밀도
+     */
+    public static List<Range> coverRanges(double minLat, double minLon, double maxLat, double maxLon,
+                                          int maxCells, int maxPrecision) {
+        TreeSet<String> cells = null;
+        for (int precision = 1; precision <= maxPrecision; precision++) {
+            TreeSet<String> next = coverCells(minLat, minLon, maxLat, maxLon, precision, maxCells);
+            if (next == null) break;
+            cells = next;
+        }
+        if (cells == null) {
+            return List.of(new Range(String.valueOf(BASE32[0]), UNBOUNDED));
+        }
+
+        List<Range> ranges = new ArrayList<>();
+        String low = null;
+        String high = null;
+        for (String cell : cells) {
+            if (low != null && cell.equals(high)) {
+                high = successor(cell);
+                continue;
+            }
+            if (low != null) {
+                ranges.add(new Range(low, high));
+            }
+            low = cell;
+            high = successor(cell);
+        }
+        if (low != null) {
+            ranges.add(new Range(low, high));
+        }
+        return ranges;
+    }
+
+    /**
+     * 영역을 덮는 해당 정밀도의 지오해시 셀 목록 (사전순)
+     * @return 셀 목록 (셀 개수가 maxCells 를 넘으면 null)
+     */
+    public static TreeSet<String> coverCells(double minLat, double minLon, double maxLat, double maxLon,
+                                             int precision, int maxCells) {
+        minLat = clamp(minLat, -90, 90);
+        maxLat = clamp(maxLat, -90, 90);
+        minLon = clamp(minLon, -180, 180);
+        maxLon = clamp(maxLon, -180, 180);
+
+        int lonBits = (precision * 5 + 1) / 2;
+        int latBits = (precision * 5) / 2;
+        double cellWidth = 360.0 / (1L << lonBits);
+        double cellHeight = 180.0 / (1L << latBits);
+
+        long fromX = (long) Math.floor((minLon + 180) / cellWidth);
+        long toX = Math.min((long) Math.floor((maxLon + 180) / cellWidth), (1L << lonBits) - 1);
+        long fromY = (long) Math.floor((minLat + 90) / cellHeight);
+        long toY = Math.min((long) Math.floor((maxLat + 90) / cellHeight), (1L << latBits) - 1);
+
+        if ((toX - fromX + 1) * (toY - fromY + 1) > maxCells) {
+            return null;
+        }
+
+        TreeSet<String> cells = new TreeSet<>();
+        for (long y = fromY; y <= toY; y++) {
+            for (long x = fromX; x <= toX; x++) {
+                double centerLat = (y + 0.5) * cellHeight - 90;
+                double centerLon = (x + 0.5) * cellWidth - 180;
+                cells.add(encode(centerLat, centerLon, precision));
+            }
+        }
+        return cells;
+    }
+
+    // 같은 정밀도에서 사전순으로 바로 다음 셀 (마지막 셀이면 모든 지오해시보다 큰 값)
+    private static String successor(String hash) {
+        char[] chars = hash.toCharArray();
+        for (int i = chars.length - 1; i >= 0; i--) {
+            int index = indexOf(chars[i]);
+            if (index < BASE32.length - 1) {
+                chars[i] = BASE32[index + 1];
+                return new String(chars);
+            }
+            chars[i] = BASE32[0];
+        }
+        return UNBOUNDED;
+    }
+
+    private static int indexOf(char c) {
+        for (int i = 0; i < BASE32.length; i++) {
+            if (BASE32[i] == c) return i;
+        }
+        throw new IllegalArgumentException("Invalid geohash character: " + c);
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    public record Range(String low, String high) {
+    }
+}
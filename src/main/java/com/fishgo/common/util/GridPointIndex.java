@@ -0,0 +1,310 @@
+package com.fishgo.common.util;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 위경도 점(id, lat, lon)을 위한 인메모리 격자 색인.
+ * - 기본 데이터는 격자 셀 키 순으로 정렬된 원시 타입 배열이며, 영역 조회 시 격자 행마다 이진 탐색으로 셀 범위를 찾습니다.
+ * - 기본 배열 생성 이후의 추가/이동/삭제는 id 순으로 정렬된 오버레이 배열에 쌓이고, compact() 시 새 배열로 합쳐집니다.
+ *   (오버레이는 쓰기마다 복사해 교체하며, 조회 시 점마다 박싱 없이 이진 탐색으로 포함 여부를 확인)
+ * - 조회는 잠금 없이 현재 상태(기본 배열 + 오버레이)를 읽고, 쓰기만 잠금으로 직렬화합니다.
+ */
+public class GridPointIndex {
+
+    // 격자 셀 크기 (약 1km)
+    private static final double CELL_DEGREES = 0.01;
+    private static final int ROWS = (int) Math.ceil(180 / CELL_DEGREES);
+    private static final int COLS = (int) Math.ceil(360 / CELL_DEGREES);
+
+    private final Object writeLock = new Object();
+    private volatile State state = new State(Snapshot.EMPTY, Overlay.EMPTY);
+
+    /**
+     * 전체 데이터를 교체합니다. 적재 도중 반영된 오버레이 변경분은 유지됩니다.
+     */
+    public void load(long[] ids, double[] lats, double[] lons) {
+        Snapshot snapshot = Snapshot.build(ids, lats, lons, ids.length);
+        synchronized (writeLock) {
+            state = new State(snapshot, state.overlay());
+        }
+    }
+
+    public void put(long id, double lat, double lon) {
+        synchronized (writeLock) {
+            state = new State(state.snapshot(), state.overlay().with(new Point(id, lat, lon)));
+        }
+    }
+
+    public void remove(long id) {
+        synchronized (writeLock) {
+            state = new State(state.snapshot(), state.overlay().with(Point.removed(id)));
+        }
+    }
+
+    /**
+     * 오버레이 변경분을 기본 배열에 합칩니다.
+     */
+    public void compact() {
+        synchronized (writeLock) {
+            State current = state;
+            Overlay overlay = current.overlay();
+            if (overlay.isEmpty()) return;
+
+            Snapshot base = current.snapshot();
+            int capacity = base.size() + overlay.size();
+            long[] ids = new long[capacity];
+            double[] lats = new double[capacity];
+            double[] lons = new double[capacity];
+            int size = 0;
+
+            for (int i = 0; i < base.size(); i++) {
+                if (!overlay.contains(base.ids()[i])) {
+                    ids[size] = base.ids()[i];
+                    lats[size] = base.lats()[i];
+                    lons[size] = base.lons()[i];
+                    size++;
+                }
+            }
+            for (Point point : overlay.points()) {
+                if (!point.isRemoved()) {
+                    ids[size] = point.id();
+                    lats[size] = point.lat();
+                    lons[size] = point.lon();
+                    size++;
+                }
+            }
+
+            state = new State(Snapshot.build(ids, lats, lons, size), Overlay.EMPTY);
+        }
+    }
+
+    /**
+     * 영역 내의 점 중 id 가 큰 순(최신순)으로 최대 limit 개를 반환합니다.
+     */
+    public List<Point> query(double minLat, double minLon, double maxLat, double maxLon, int limit) {
+        if (limit <= 0) return List.of();
+
+        State current = state;
+        Snapshot base = current.snapshot();
+        Overlay overlay = current.overlay();
+        boolean hasOverlay = !overlay.isEmpty();
+        TopK top = new TopK(limit);
+
+        int fromRow = row(minLat);
+        int toRow = row(maxLat);
+        int fromCol = col(minLon);
+        int toCol = col(maxLon);
+
+        long[] keys = base.keys();
+        for (int r = fromRow; r <= toRow; r++) {
+            long lowKey = (long) r * COLS + fromCol;
+            long highKey = (long) r * COLS + toCol;
+            for (int i = lowerBound(keys, lowKey); i < keys.length && keys[i] <= highKey; i++) {
+                double lat = base.lats()[i];
+                double lon = base.lons()[i];
+                if (lat < minLat || lat > maxLat || lon < minLon || lon > maxLon) continue;
+
+                long id = base.ids()[i];
+                if (hasOverlay && overlay.contains(id)) continue;
+                top.offer(id, lat, lon);
+            }
+        }
+
+        if (hasOverlay) {
+            for (Point point : overlay.points()) {
+                if (point.isRemoved()) continue;
+                if (point.lat() < minLat || point.lat() > maxLat || point.lon() < minLon || point.lon() > maxLon) continue;
+                top.offer(point.id(), point.lat(), point.lon());
+            }
+        }
+
+        return top.toDescendingList();
+    }
+
+    public int size() {
+        return state.snapshot().size();
+    }
+
+    public int overlaySize() {
+        return state.overlay().size();
+    }
+
+    private static int row(double lat) {
+        int row = (int) Math.floor((lat + 90) / CELL_DEGREES);
+        return Math.max(0, Math.min(ROWS - 1, row));
+    }
+
+    private static int col(double lon) {
+        int col = (int) Math.floor((lon + 180) / CELL_DEGREES);
+        return Math.max(0, Math.min(COLS - 1, col));
+    }
+
+    private static int lowerBound(long[] keys, long key) {
+        int lo = 0;
+        int hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    public record Point(long id, double lat, double lon) {
+
+        static Point removed(long id) {
+            return new Point(id, Double.NaN, Double.NaN);
+        }
+
+        boolean isRemoved() {
+            return Double.isNaN(lat);
+        }
+    }
+
+    private record State(Snapshot snapshot, Overlay overlay) {
+    }
+
+    // id 오름차순으로 정렬된 변경분 (불변, 쓰기마다 새로 만듦)
+    private record Overlay(long[] ids, Point[] points) {
+
+        static final Overlay EMPTY = new Overlay(new long[0], new Point[0]);
+
+        boolean contains(long id) {
+            if (ids.length == 0 || id < ids[0] || id > ids[ids.length - 1]) return false;
+            return Arrays.binarySearch(ids, id) >= 0;
+        }
+
+        Overlay with(Point point) {
+            int index = Arrays.binarySearch(ids, point.id());
+            if (index >= 0) {
+                Point[] nextPoints = points.clone();
+                nextPoints[index] = point;
+                return new Overlay(ids, nextPoints);
+            }
+
+            int at = -index - 1;
+            long[] nextIds = new long[ids.length + 1];
+            Point[] nextPoints = new Point[points.length + 1];
+            System.arraycopy(ids, 0, nextIds, 0, at);
+            System.arraycopy(points, 0, nextPoints, 0, at);
+            nextIds[at] = point.id();
+            nextPoints[at] = point;
+            System.arraycopy(ids, at, nextIds, at + 1, ids.length - at);
+            System.arraycopy(points, at, nextPoints, at + 1, points.length - at);
+            return new Overlay(nextIds, nextPoints);
+        }
+
+        boolean isEmpty() {
+            return ids.length == 0;
+        }
+
+        int size() {
+            return ids.length;
+        }
+    }
+
+    // 격자 셀 키 오름차순으로 정렬된 원시 타입 배열
+    private record Snapshot(long[] keys, long[] ids, double[] lats, double[] lons) {
+
+        static final Snapshot EMPTY = new Snapshot(new long[0], new long[0], new double[0], new double[0]);
+
+        // 셀 키(ROWS * COLS < 2^31)를 상위 32비트, 원래 위치를 하위 32비트에 담아 원시 타입 정렬
+        static Snapshot build(long[] ids, double[] lats, double[] lons, int size) {
+            long[] order = new long[size];
+            for (int i = 0; i < size; i++) {
+                long cellKey = (long) row(lats[i]) * COLS + col(lons[i]);
+                order[i] = (cellKey << 32) | i;
+            }
+            Arrays.sort(order);
+
+            long[] sortedKeys = new long[size];
+            long[] sortedIds = new long[size];
+            double[] sortedLats = new double[size];
+            double[] sortedLons = new double[size];
+            for (int i = 0; i < size; i++) {
+                int from = (int) order[i];
+                sortedKeys[i] = order[i] >>> 32;
+                sortedIds[i] = ids[from];
+                sortedLats[i] = lats[from];
+                sortedLons[i] = lons[from];
+            }
+            return new Snapshot(sortedKeys, sortedIds, sortedLats, sortedLons);
+        }
+
+        int size() {
+            return ids.length;
+        }
+    }
+
+    // id 기준 상위 k개를 유지하는 원시 타입 최소 힙
+    private static final class TopK {
+        private final long[] ids;
+        private final double[] lats;
+        private final double[] lons;
+        private int size;
+
+        TopK(int capacity) {
+            ids = new long[capacity];
+            lats = new double[capacity];
+            lons = new double[capacity];
+        }
+
+        void offer(long id, double lat, double lon) {
+            if (size < ids.length) {
+                set(size, id, lat, lon);
+                siftUp(size++);
+            } else if (id > ids[0]) {
+                set(0, id, lat, lon);
+                siftDown(0);
+            }
+        }
+
+        List<Point> toDescendingList() {
+            Point[] result = new Point[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = new Point(ids[i], lats[i], lons[i]);
+            }
+            Arrays.sort(result, Comparator.comparingLong(Point::id).reversed());
+            return Arrays.asList(result);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (ids[parent] <= ids[i]) break;
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = i * 2 + 1;
+                if (left >= size) break;
+                int smallest = left + 1 < size && ids[left + 1] < ids[left] ? left + 1 : left;
+                if (ids[i] <= ids[smallest]) break;
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void set(int i, long id, double lat, double lon) {
+            ids[i] = id;
+            lats[i] = lat;
+            lons[i] = lon;
+        }
+
+        private void swap(int a, int b) {
+            long id = ids[a];
+            double lat = lats[a];
+            double lon = lons[a];
+            set(a, ids[b], lats[b], lons[b]);
+            set(b, id, lat, lon);
+        }
+    }
+}
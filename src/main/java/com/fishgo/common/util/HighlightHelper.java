@@ -0,0 +1,43 @@
+package com.fishgo.common.util;
+
+import org.springframework.web.util.HtmlUtils;
+
+public class HighlightHelper {
+
+    private static final String START_TAG = "<em>";
+    private static final String END_TAG = "</em>";
+
+    /**
+     * 본문에서 검색어와 일치하는 부분(대소문자 무시)을 &lt;em&gt; 태그로 감쌉니다.
+     * 태그 외의 본문은 HTML 이스케이프 처리합니다.
+     * (소문자 변환 시 길이가 바뀌는 문자가 있으므로 변환본이 아닌 원문에서 문자 단위로 비교)
+     */
+    public static String highlight(String text, String query) {
+        if (text == null) return null;
+        if (query == null || query.isEmpty()) return HtmlUtils.htmlEscape(text);
+
+        StringBuilder sb = new StringBuilder(text.length() + 16);
+        int from = 0;
+        int index = indexOfIgnoreCase(text, query, 0);
+        while (index >= 0) {
+            sb.append(HtmlUtils.htmlEscape(text.substring(from, index)))
+                    .append(START_TAG)
+                    .append(HtmlUtils.htmlEscape(text.substring(index, index + query.length())))
+                    .append(END_TAG);
+            from = index + query.length();
+            index = indexOfIgnoreCase(text, query, from);
+        }
+        sb.append(HtmlUtils.htmlEscape(text.substring(from)));
+
+        return sb.toString();
+    }
+
+    private static int indexOfIgnoreCase(String text, String query, int from) {
+        for (int i = from; i <= text.length() - query.length(); i++) {
+            if (text.regionMatches(true, i, query, 0, query.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,102 @@
+package com.fishgo.common.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+
+/**
+ * 크기 제한(LRU)과 선택적 만료 시간을 가진 스레드 안전한 인메모리 캐시.
+ * 적중/미스/축출 횟수를 함께 집계합니다.
+ */
+public class LruCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Map<K, CacheEntry<V>> map;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public LruCache(int maxSize) {
+        this(maxSize, 0);
+    }
+
+    /**
+     * @param maxSize 최대 보관 개수 (초과 시 가장 오래 사용되지 않은 항목부터 축출)
+     * @param ttlMillis 항목 만료 시간 (0 이하면 만료 없음)
+     */
+    public LruCache(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                if (size() > LruCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        CacheEntry<V> entry = map.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.isExpired()) {
+            map.remove(key);
+            evictions.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    public synchronized void put(K key, V value) {
+        long expiresAt = ttlMillis > 0 ? System.currentTimeMillis() + ttlMillis : Long.MAX_VALUE;
+        map.put(key, new CacheEntry<>(value, expiresAt));
+    }
+
+    public synchronized void remove(K key) {
+        map.remove(key);
+    }
+
+    /**
+     * 조건에 맞는 항목을 모두 제거합니다.
+     */
+    public synchronized void removeIf(BiPredicate<K, V> predicate) {
+        map.entrySet().removeIf(e -> predicate.test(e.getKey(), e.getValue().value()));
+    }
+
+    public synchronized void clear() {
+        map.clear();
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private record CacheEntry<V>(V value, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.fishgo.common.util;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 자동완성용 인메모리 접두어 색인.
+ * - 소문자로 정규화한 키를 정렬 배열로 보관하고, 이진 탐색으로 접두어 범위를 찾은 뒤 점수 상위 k개를 반환합니다.
+ *   키는 "정규화 값 + \0 + 원래 값" 이므로 대소문자만 다른 값("Bass"/"bass")도 각각 별도 항목으로 유지됩니다.
+ * - 조회는 잠금 없이 현재 스냅샷을 읽고, 항목 추가/삭제는 배열을 복사해 새 스냅샷으로 교체합니다.
+ * - 점수 변경은 배열 복사 없이 제자리에서 갱신합니다.
+ * - 항목마다 식별자(예: 사용자 ID)를 함께 보관할 수 있습니다. (없으면 0)
+ */
+public class PrefixIndex {
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * 전체 항목을 교체합니다. (식별자 없음)
+     * @param scores 값 -> 점수
+     */
+    public void load(Map<String, Long> scores) {
+        List<Entry> entries = new ArrayList<>(scores.size());
+        scores.forEach((value, score) -> entries.add(new Entry(value, 0, score == null ? 0 : score)));
+        load(entries);
+    }
+
+    /**
+     * 전체 항목을 교체합니다.
+     * @param entries 값, 식별자, 점수 목록
+     */
+    public synchronized void load(Collection<Entry> entries) {
+        TreeMap<String, Entry> sorted = new TreeMap<>();
+        for (Entry entry : entries) {
+            if (entry.value() != null && !entry.value().isBlank()) {
+                sorted.put(key(entry.value()), entry);
+            }
+        }
+
+        int size = sorted.size();
+        String[] keys = new String[size];
+        String[] values = new String[size];
+        long[] ids = new long[size];
+        long[] scoreArray = new long[size];
+        int i = 0;
+        for (Map.Entry<String, Entry> e : sorted.entrySet()) {
+            keys[i] = e.getKey();
+            values[i] = e.getValue().value();
+            ids[i] = e.getValue().id();
+            scoreArray[i] = e.getValue().score();
+            i++;
+        }
+        snapshot = new Snapshot(keys, values, ids, new AtomicLongArray(scoreArray));
+    }
+
+    /**
+     * 점수를 증감합니다. 없는 항목이면 delta 를 점수로 새로 추가합니다.
+     */
+    public synchronized void addScore(String value, long delta) {
+        if (value == null || value.isBlank()) return;
+
+        Snapshot current = snapshot;
+        int index = Arrays.binarySearch(current.keys(), key(value));
+        if (index >= 0) {
+            current.scores().addAndGet(index, delta);
+        } else {
+            snapshot = current.insert(-index - 1, key(value), value, 0, Math.max(delta, 0));
+        }
+    }
+
+    /**
+     * 항목을 추가합니다. 이미 있으면 아무것도 하지 않습니다. (식별자 없음)
+     */
+    public void add(String value, long score) {
+        add(value, 0, score);
+    }
+
+    /**
+     * 식별자와 함께 항목을 추가합니다. 이미 있으면 아무것도 하지 않습니다.
+     */
+    public synchronized void add(String value, long id, long score) {
+        if (value == null || value.isBlank()) return;
+
+        Snapshot current = snapshot;
+        int index = Arrays.binarySearch(current.keys(), key(value));
+        if (index < 0) {
+            snapshot = current.insert(-index - 1, key(value), value, id, score);
+        }
+    }
+
+    /**
+     * 항목을 삭제하고 삭제 전 점수를 반환합니다. (없으면 0)
+     */
+    public synchronized long remove(String value) {
+        if (value == null) return 0;
+
+        Snapshot current = snapshot;
+        int index = Arrays.binarySearch(current.keys(), key(value));
+        if (index < 0) return 0;
+
+        long score = current.scores().get(index);
+        snapshot = current.delete(index);
+        return score;
+    }
+
+    /**
+     * 접두어로 시작하는 항목 중 점수 상위 limit 개를 반환합니다. (동점이면 사전순)
+     */
+    public List<String> search(String prefix, int limit) {
+        return searchEntries(prefix, limit).stream().map(Entry::value).toList();
+    }
+
+    /**
+     * 접두어로 시작하는 항목 중 점수 상위 limit 개를 식별자, 점수와 함께 반환합니다. (동점이면 사전순)
+     */
+    public List<Entry> searchEntries(String prefix, int limit) {
+        if (prefix == null || prefix.isEmpty() || limit <= 0) return List.of();
+
+        Snapshot current = snapshot;
+        String key = normalize(prefix);
+        int from = lowerBound(current.keys(), key);
+        int to = lowerBound(current.keys(), key + Character.MAX_VALUE);
+
+        // 점수가 가장 낮은 항목이 head 인 크기 limit 의 힙
+        PriorityQueue<Integer> top = new PriorityQueue<>(limit + 1, (a, b) -> {
+            int cmp = Long.compare(current.scores().get(a), current.scores().get(b));
+            return cmp != 0 ? cmp : Integer.compare(b, a);
+        });
+        for (int i = from; i < to; i++) {
+            top.offer(i);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        Entry[] result = new Entry[top.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            int index = top.poll();
+            result[i] = new Entry(current.values()[index], current.ids()[index], current.scores().get(index));
+        }
+        return Arrays.asList(result);
+    }
+
+    public int size() {
+        return snapshot.keys().length;
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    // 정규화 값이 같은 항목끼리 모이도록 앞에 두고, 원래 값으로 구분
+    private static String key(String value) {
+        return normalize(value) + '\0' + value;
+    }
+
+    private static int lowerBound(String[] keys, String key) {
+        int lo = 0;
+        int hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * 색인 항목 (값, 식별자, 점수)
+     */
+    public record Entry(String value, long id, long score) {
+    }
+
+    private record Snapshot(String[] keys, String[] values, long[] ids, AtomicLongArray scores) {
+
+        static final Snapshot EMPTY = new Snapshot(new String[0], new String[0], new long[0], new AtomicLongArray(0));
+
+        Snapshot insert(int at, String key, String value, long id, long score) {
+            int size = keys.length;
+            String[] newKeys = new String[size + 1];
+            String[] newValues = new String[size + 1];
+            long[] newIds = new long[size + 1];
+            long[] newScores = new long[size + 1];
+
+            System.arraycopy(keys, 0, newKeys, 0, at);
+            System.arraycopy(values, 0, newValues, 0, at);
+            System.arraycopy(ids, 0, newIds, 0, at);
+            for (int i = 0; i < at; i++) newScores[i] = scores.get(i);
+
+            newKeys[at] = key;
+            newValues[at] = value;
+            newIds[at] = id;
+            newScores[at] = score;
+
+            System.arraycopy(keys, at, newKeys, at + 1, size - at);
+            System.arraycopy(values, at, newValues, at + 1, size - at);
+            System.arraycopy(ids, at, newIds, at + 1, size - at);
+            for (int i = at; i < size; i++) newScores[i + 1] = scores.get(i);
+
+            return new Snapshot(newKeys, newValues, newIds, new AtomicLongArray(newScores));
+        }
+
+        Snapshot delete(int at) {
+            int size = keys.length;
+            String[] newKeys = new String[size - 1];
+            String[] newValues = new String[size - 1];
+            long[] newIds = new long[size - 1];
+            long[] newScores = new long[size - 1];
+
+            System.arraycopy(keys, 0, newKeys, 0, at);
+            System.arraycopy(values, 0, newValues, 0, at);
+            System.arraycopy(ids, 0, newIds, 0, at);
+            for (int i = 0; i < at; i++) newScores[i] = scores.get(i);
+
+            System.arraycopy(keys, at + 1, newKeys, at, size - at - 1);
+            System.arraycopy(values, at + 1, newValues, at, size - at - 1);
+            System.arraycopy(ids, at + 1, newIds, at, size - at - 1);
+            for (int i = at + 1; i < size; i++) newScores[i - 1] = scores.get(i);
+
+            return new Snapshot(newKeys, newValues, newIds, new AtomicLongArray(newScores));
+        }
+    }
+}
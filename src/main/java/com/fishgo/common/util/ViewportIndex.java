@@ -0,0 +1,130 @@
+package com.fishgo.common.util;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사각형 영역(뷰포트)을 등록해 두고, 점이 들어가는 영역들을 찾는 인메모리 격자 색인.
+ * - 영역은 자신이 걸치는 격자 셀마다 등록되어, 점 조회 시 해당 셀 하나만 확인합니다.
+ * - 너무 넓은 영역(셀 수 초과)은 별도 목록에 두고 조회 시마다 직접 비교합니다.
+ * - 조회는 잠금 없이 수행하고, 등록/해제만 잠금으로 직렬화합니다.
+ */
+public class ViewportIndex<K> {
+
+    // 격자 셀 크기 (약 10km)
+    private static final double CELL_DEGREES = 0.1;
+    private static final int COLS = (int) Math.ceil(360 / CELL_DEGREES);
+
+    // 영역 하나가 등록될 수 있는 최대 셀 수 (초과하면 넓은 영역 목록으로)
+    private static final int MAX_CELLS_PER_VIEWPORT = 256;
+
+    private final Object writeLock = new Object();
+    private final Map<Long, Set<Entry<K>>> cells = new ConcurrentHashMap<>();
+    private final Set<Entry<K>> wide = ConcurrentHashMap.newKeySet();
+    private final Map<K, Entry<K>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 영역을 등록합니다. 같은 키가 이미 있으면 새 영역으로 교체합니다.
+     */
+    public void put(K key, double minLat, double minLon, double maxLat, double maxLon) {
+        Entry<K> entry = new Entry<>(key, minLat, minLon, maxLat, maxLon);
+        synchronized (writeLock) {
+            unregister(entries.put(key, entry));
+
+            int minRow = row(minLat), maxRow = row(maxLat);
+            int minCol = col(minLon), maxCol = col(maxLon);
+            long cellCount = (long) (maxRow - minRow + 1) * (maxCol - minCol + 1);
+
+            if (cellCount > MAX_CELLS_PER_VIEWPORT) {
+                wide.add(entry);
+                return;
+            }
+            for (int r = minRow; r <= maxRow; r++) {
+                for (int c = minCol; c <= maxCol; c++) {
+                    cells.computeIfAbsent(cellKey(r, c), k -> ConcurrentHashMap.newKeySet()).add(entry);
+                }
+            }
+        }
+    }
+
+    public void remove(K key) {
+        synchronized (writeLock) {
+            unregister(entries.remove(key));
+        }
+    }
+
+    /**
+     * 점 (lat, lon) 을 포함하는 영역의 키 목록
+     */
+    public Set<K> find(double lat, double lon) {
+        Set<K> result = new HashSet<>();
+
+        Set<Entry<K>> cell = cells.get(cellKey(row(lat), col(lon)));
+        if (cell != null) {
+            for (Entry<K> entry : cell) {
+                if (entry.contains(lat, lon)) result.add(entry.key());
+            }
+        }
+        for (Entry<K> entry : wide) {
+            if (entry.contains(lat, lon)) result.add(entry.key());
+        }
+        return result;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void unregister(Entry<K> entry) {
+        if (entry == null) return;
+
+        if (wide.remove(entry)) return;
+
+        for (int r = row(entry.minLat()); r <= row(entry.maxLat()); r++) {
+            for (int c = col(entry.minLon()); c <= col(entry.maxLon()); c++) {
+                long cellKey = cellKey(r, c);
+                Set<Entry<K>> cell = cells.get(cellKey);
+                if (cell != null) {
+                    cell.remove(entry);
+                    if (cell.isEmpty()) cells.remove(cellKey);
+                }
+            }
+        }
+    }
+
+    private static int row(double lat) {
+        return (int) Math.floor((Math.max(-90, Math.min(90, lat)) + 90) / CELL_DEGREES);
+    }
+
+    private static int col(double lon) {
+        return (int) Math.floor((Math.max(-180, Math.min(180, lon)) + 180) / CELL_DEGREES);
+    }
+
+    private static long cellKey(int row, int col) {
+        return (long) row * COLS + col;
+    }
+
+    // 동일 좌표의 영역도 서로 다른 등록으로 구분되도록 식별자 기준으로 비교
+    private static final class Entry<K> {
+        private final K key;
+        private final double minLat, minLon, maxLat, maxLon;
+
+        Entry(K key, double minLat, double minLon, double maxLat, double maxLon) {
+            this.key = key;
+            this.minLat = minLat;
+            this.minLon = minLon;
+            this.maxLat = maxLat;
+            this.maxLon = maxLon;
+        }
+
+        K key() { return key; }
+        double minLat() { return minLat; }
+        double minLon() { return minLon; }
+        double maxLat() { return maxLat; }
+        double maxLon() { return maxLon; }
+
+        boolean contains(double lat, double lon) {
+            return lat >= minLat && lat <= maxLat && lon >= minLon && lon <= maxLon;
+        }
+    }
+}
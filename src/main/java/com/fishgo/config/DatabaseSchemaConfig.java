@@ -0,0 +1,215 @@
+package com.fishgo.config;
+
+import com.fishgo.common.util.GeoHashHelper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * JPA 어노테이션으로 표현할 수 없는 PostgreSQL 전용 스키마(확장, GIN 인덱스 등)를 생성합니다.
+ * 모든 구문은 멱등(IF NOT EXISTS)이므로 애플리케이션 시작 시마다 실행해도 안전합니다.
+ * - 웹 서버가 요청을 받기 전에 실행하므로, 최초 채움(backfill) 도중 들어온 증감이 덮어써지지 않습니다.
+ * - 여러 서버가 동시에 시작해도 advisory lock 으로 한 곳씩 한 트랜잭션 안에서 실행하며,
+ *   실패하면 애플리케이션 시작을 중단합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class DatabaseSchemaConfig implements SmartInitializingSingleton {
+
+    private static final List<String> STATEMENTS = List.of(
+            // 한 번만 실행하는 최초 채움(backfill)의 완료 기록
+            """
+            CREATE TABLE IF NOT EXISTS schema_backfill (
+                name VARCHAR(100) PRIMARY KEY,
+                completed_at TIMESTAMP NOT NULL DEFAULT now()
+            )
+            """,
+
+            // 게시글 검색 (한글 부분 일치 검색을 위한 trigram 인덱스)
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "CREATE INDEX IF NOT EXISTS idx_posts_title_trgm ON posts USING gin (title gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_posts_contents_trgm ON posts USING gin (contents gin_trgm_ops)",
+
+            // 두 글자 검색어용 2-gram 색인 (trigram 인덱스는 3글자 미만 검색어에 쓰이지 않음)
+            """
+            CREATE OR REPLACE FUNCTION fishgo_bigrams(t text) RETURNS text[]
+            LANGUAGE sql IMMUTABLE STRICT PARALLEL SAFE AS $$
+                SELECT COALESCE(array_agg(DISTINCT substr(lower(t), i, 2)), '{}')
+                FROM generate_series(1, char_length(t) - 1) AS i
+            $$
+            """,
+            """
+            CREATE INDEX IF NOT EXISTS idx_posts_bigram ON posts
+            USING gin (fishgo_bigrams(COALESCE(title, '') || ' ' || COALESCE(contents, '')))
+            WHERE is_active = true
+            """,
+
+            // 지오해시 범위 검색 인덱스는 바이트 순서(COLLATE "C")로 만들어 GeoHashHelper 의 범위와 정렬을 맞춤
+            // (기본 collation 으로 만들었던 이전 인덱스는 조회에 쓰이지 않으므로 제거)
+            "DROP INDEX IF EXISTS idx_posts_geohash_active",
+            "DROP INDEX IF EXISTS idx_posts_geohash_created",
+            "DROP INDEX IF EXISTS idx_posts_geohash_c_created",
+
+            // 지도 영역 조회 (활성 게시글의 지오해시 범위 검색을 인덱스만으로 처리)
+            """
+            CREATE INDEX IF NOT EXISTS idx_posts_geohash_c_active ON posts (geohash COLLATE "C")
+            INCLUDE (id, lat, lon) WHERE is_active = true AND geohash IS NOT NULL
+            """,
+
+            // 주변 조과 검색 (지오해시 4자리 셀 일치 + 작성일 범위)
+            // 지오해시를 범위로 검색하면 뒤 컬럼인 작성일은 검색 범위를 좁히지 못하므로, 고정 길이 셀을 등호로 비교
+            """
+            CREATE INDEX IF NOT EXISTS idx_posts_geocell_created ON posts (LEFT(geohash, 4), created_at)
+            INCLUDE (id, lat, lon) WHERE is_active = true AND geohash IS NOT NULL
+            """,
+
+            // 조과 히트맵 영역 조회 (셀 유일 제약 인덱스는 기본 collation 이라 범위 검색에 쓸 수 없음)
+            "CREATE INDEX IF NOT EXISTS idx_catch_heatmap_geohash_c ON catch_heatmap (geohash COLLATE \"C\")",
+
+            // 좋아요 중복 방지 (INSERT ... ON CONFLICT 대상). 기존 중복 이력을 지우고 좋아요 수를 다시 맞춘 뒤 생성
+            """
+            DO $$
+            BEGIN
+                IF to_regclass('uk_posts_like_post_user') IS NULL THEN
+                    DELETE FROM posts_like a USING posts_like b
+                    WHERE a.post_id = b.post_id AND a.user_id = b.user_id AND a.id > b.id;
+                    CREATE UNIQUE INDEX uk_posts_like_post_user ON posts_like (post_id, user_id);
+                    UPDATE posts p SET like_count = (SELECT COUNT(*) FROM posts_like l WHERE l.post_id = p.id);
+                END IF;
+            END $$
+            """,
+            """
+            DO $$
+            BEGIN
+                IF to_regclass('uk_comment_like_comment_user') IS NULL THEN
+                    DELETE FROM comment_like a USING comment_like b
+                    WHERE a.comment_id = b.comment_id AND a.user_id = b.user_id AND a.id > b.id;
+                    CREATE UNIQUE INDEX uk_comment_like_comment_user ON comment_like (comment_id, user_id);
+                    UPDATE comment c SET like_count = (SELECT COUNT(*) FROM comment_like l WHERE l.comment_id = c.id);
+                END IF;
+            END $$
+            """
+    );
+
+    // 한 번만 실행하는 최초 채움 (schema_backfill 에 이름을 기록한 트랜잭션에서 실행하므로 실패하면 기록도 취소됨)
+    private static final List<Backfill> BACKFILLS = List.of(
+            // 해시태그별 게시글 수
+            new Backfill("hashtag.post_count", """
+                    UPDATE hashtag h SET post_count = t.cnt
+                    FROM (SELECT ph.hashtag_id, COUNT(*) AS cnt
+                            FROM post_hashtag ph
+                            JOIN posts p ON p.id = ph.post_id
+                           WHERE p.is_active = true
+                           GROUP BY ph.hashtag_id) t
+                    WHERE h.id = t.hashtag_id
+                    """),
+
+            // 댓글별 대댓글 수
+            new Backfill("comment.reply_count", """
+                    UPDATE comment c SET reply_count = t.cnt
+                    FROM (SELECT r.parent_id, COUNT(*) AS cnt
+                            FROM comment r
+                           WHERE r.parent_id IS NOT NULL
+                           GROUP BY r.parent_id) t
+                    WHERE c.id = t.parent_id
+                    """)
+    );
+
+    // posts.geohash 채움 이후에 실행해야 하는 최초 채움
+    private static final List<Backfill> GEOHASH_DEPENDENT_BACKFILLS = List.of(
+            // 조과 히트맵 집계 (누적이 아닌 게시글 기준 절대값으로 덮어씀)
+            new Backfill("catch_heatmap", """
+                    INSERT INTO catch_heatmap (geohash, fish_type, catch_month, catch_count)
+                    SELECT LEFT(p.geohash, 5), COALESCE(p.fish_type, ''),
+                           CAST(EXTRACT(MONTH FROM p.created_at) AS integer), COUNT(*)
+                    FROM posts p
+                    WHERE p.is_active = true
+                      AND p.geohash IS NOT NULL
+                      AND p.created_at IS NOT NULL
+                    GROUP BY 1, 2, 3
+                    ON CONFLICT (geohash, fish_type, catch_month)
+                    DO UPDATE SET catch_count = EXCLUDED.catch_count
+                    """)
+    );
+
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    // 모든 싱글톤(JPA 스키마 생성 포함) 초기화 후, 웹 서버 시작 전에 호출됨
+    @Override
+    public void afterSingletonsInstantiated() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // 동시에 시작한 다른 서버는 이 트랜잭션이 끝날 때까지 대기 (트랜잭션 종료 시 자동 해제)
+            jdbcTemplate.execute("SELECT pg_advisory_xact_lock(hashtext('fishgo:native-schema'))");
+
+            execute(STATEMENTS);
+            backfill(BACKFILLS);
+            backfillPostGeohash();
+            backfill(GEOHASH_DEPENDENT_BACKFILLS);
+        });
+    }
+
+    private void execute(List<String> statements) {
+        for (String statement : statements) {
+            try {
+                jdbcTemplate.execute(statement);
+            } catch (RuntimeException e) {
+                log.error("Native schema statement failed: {}", statement);
+                throw e;
+            }
+        }
+    }
+
+    // 완료 기록이 없는 최초 채움만 실행하고 기록을 남김 (advisory lock 트랜잭션 안이므로 한 서버만 실행)
+    private void backfill(List<Backfill> backfills) {
+        for (Backfill backfill : backfills) {
+            int inserted = jdbcTemplate.update(
+                    "INSERT INTO schema_backfill (name) VALUES (?) ON CONFLICT (name) DO NOTHING", backfill.name());
+            if (inserted == 0) continue;
+
+            try {
+                int rows = jdbcTemplate.update(backfill.sql());
+                log.info("Schema backfill {} completed: {} rows", backfill.name(), rows);
+            } catch (RuntimeException e) {
+                log.error("Schema backfill failed: {}", backfill.name());
+                throw e;
+            }
+        }
+    }
+
+    // geohash 컬럼 추가 이전에 작성된 게시글의 지오해시 채움 (DB 에 지오해시 함수가 없으므로 애플리케이션에서 계산)
+    private void backfillPostGeohash() {
+        int total = 0;
+        while (true) {
+            List<Object[]> batch = jdbcTemplate.query("""
+                    SELECT id, lat, lon FROM posts
+                    WHERE geohash IS NULL AND lat IS NOT NULL AND lon IS NOT NULL
+                    LIMIT ?
+                    """,
+                    (rs, rowNum) -> new Object[]{
+                            GeoHashHelper.encode(rs.getDouble("lat"), rs.getDouble("lon"), GeoHashHelper.MAX_PRECISION),
+                            rs.getLong("id")
+                    },
+                    BACKFILL_BATCH_SIZE);
+            if (batch.isEmpty()) break;
+
+            jdbcTemplate.batchUpdate("UPDATE posts SET geohash = ? WHERE id = ?", batch);
+            total += batch.size();
+        }
+        if (total > 0) {
+            log.info("Post geohash backfilled: {} rows", total);
+        }
+    }
+
+    private record Backfill(String name, String sql) {
+    }
+}
@@ -50,7 +50,11 @@ public class SecurityConfig {
             // 회원가입, 로그인(카카오 포함), 게시글 목록, 게시글 상세, 댓글 목록, 조석 예보, Swagger 관련 요청을 제외한 모든 요청은 권한 필요.
             .authorizeHttpRequests((authorizeRequests) ->
 
-                    authorizeRequests.requestMatchers("/api/auth/register", "/api/auth/login","/swagger-ui/**",
+                    // 운영 지표 조회는 관리자만 가능
+                    authorizeRequests.requestMatchers(HttpMethod.GET, "/api/posts/feed-cache/stats")
+                            .hasRole("ADMIN")
+
+                            .requestMatchers("/api/auth/register", "/api/auth/login","/swagger-ui/**",
                                     "/api/swagger-ui.html", "/api/v3/api-docs/**", "/api/auth/kakao/callback",
                                     "/api/auth/verify", "/api/auth/resendVerify")
                             .access(withoutWithdraw())
@@ -6,6 +6,7 @@ import com.fishgo.posts.comments.service.CommentLikeService;
 import com.fishgo.posts.comments.service.CommentService;
 import com.fishgo.users.domain.Users;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -42,8 +43,11 @@ public class CommentController {
         return ResponseEntity.ok(new ApiResponse<>("댓글 조회 성공", HttpStatus.OK.value(), commentsDtoList));
     }
 
-    @Operation(summary = "대댓글 조회", description = "부모 댓글의 ID로 대댓글을 조회합니다. 남은 대댓글 수(remainingRepliesCount)," +
-                                        " 대댓글 정보가 담긴 Page 객체를 반환합니다.")
+    @Operation(summary = "대댓글 조회 (사용 중단)", deprecated = true,
+            description = "부모 댓글의 ID로 대댓글을 조회합니다. 남은 대댓글 수(remainingRepliesCount)," +
+                          " 대댓글 정보가 담긴 Page 객체를 반환합니다. 첫 페이지는 size 보다 1개 적게 반환되므로" +
+                          " 커서 기반 /comment/replies 를 사용하세요.")
+    @Deprecated
     @GetMapping("/reply")
     public ResponseEntity<ApiResponse<RepliesResponseDto>> getReply(@RequestParam Long commentId,
                                                                     @RequestParam(value = "page", defaultValue = "0") int page,
@@ -57,6 +61,21 @@ public class CommentController {
         return ResponseEntity.ok(new ApiResponse<>("댓글 조회 성공", HttpStatus.OK.value(), replies));
     }
 
+    @Operation(summary = "대댓글 조회 (커서)", description = "부모 댓글의 ID로 대댓글을 작성순으로 조회합니다. " +
+            "댓글 조회 응답의 replyCursor 를 cursor 로 전달하면 첫번째 대댓글 이후부터 조회하며, " +
+            "다음 목록은 응답의 nextCursor 를 전달해 조회합니다. 남은 대댓글 수(remainingRepliesCount)를 함께 반환합니다.")
+    @GetMapping("/replies")
+    public ResponseEntity<ApiResponse<ReplyFeedResponseDto>> getReplyFeed(@RequestParam Long commentId,
+                                                                          @Parameter(description = "replyCursor 또는 이전 응답의 nextCursor (생략 시 첫 대댓글부터)")
+                                                                          @RequestParam(value = "cursor", required = false) String cursor,
+                                                                          @RequestParam(value = "size", defaultValue = "10") int size,
+                                                                          @AuthenticationPrincipal Users currentUser) {
+
+        ReplyFeedResponseDto replies = commentService.getReplyFeed(commentId, cursor, size, currentUser);
+
+        return ResponseEntity.ok(new ApiResponse<>("댓글 조회 성공", HttpStatus.OK.value(), replies));
+    }
+
     @Operation(summary = "댓글 및 대댓글 작성", description = "게시글 ID, 댓글 내용, (대댓글인 경우 부모 댓글의 ID)로 댓글을 작성합니다.")
     @PostMapping
     public ResponseEntity<ApiResponse<CommentWithFirstReplyResponseDto>> createComment(@RequestBody CommentCreateRequestDto commentDto, @AuthenticationPrincipal Users currentUser) {
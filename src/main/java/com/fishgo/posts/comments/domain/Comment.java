@@ -6,6 +6,7 @@ import com.fishgo.posts.domain.Posts;
 import com.fishgo.users.domain.Users;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -15,7 +16,10 @@ import java.util.Set;
 
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Entity
-@Table(name = "comment")
+@Table(name = "comment", indexes = {
+        @Index(name = "idx_comment_post_parent_created", columnList = "posts_id, parent_id, created_at"),
+        @Index(name = "idx_comment_parent_created", columnList = "parent_id, created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -52,6 +56,11 @@ public class Comment {
     @Column(name = "like_count", nullable = false)
     private int likeCount;
 
+    // 대댓글 수 (대댓글 작성 시 증감 쿼리로만 갱신, 삭제 상태의 대댓글도 목록에 보이므로 포함)
+    @Column(name = "reply_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private int replyCount;
+
     // 댓글 상태
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
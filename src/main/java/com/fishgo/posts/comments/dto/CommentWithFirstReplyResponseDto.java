@@ -15,6 +15,9 @@ public class CommentWithFirstReplyResponseDto extends CommentResponseDto{
     @Schema(description = "남은 대댓글 개수")
     private int remainingReplyCount;
 
+    @Schema(description = "첫번째 대댓글 이후의 대댓글 조회 커서 (남은 대댓글이 없으면 null)")
+    private String replyCursor;
+
     @Schema(description = "댓글 상태", example = "ACTIVE / USER_WITHDRAWN / DELETED_BY_USER / DELETED_BY_ADMIN")
     private CommentStatus status = CommentStatus.ACTIVE;
 
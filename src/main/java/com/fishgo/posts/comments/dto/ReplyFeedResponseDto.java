@@ -0,0 +1,18 @@
+package com.fishgo.posts.comments.dto;
+
+import com.fishgo.common.response.CursorResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Schema(description = "대댓글 커서 조회 응답 DTO")
+@Getter
+@AllArgsConstructor
+public class ReplyFeedResponseDto {
+
+    @Schema(description = "이번 목록 이후 남은 대댓글 개수", example = "12")
+    private long remainingRepliesCount;
+
+    @Schema(description = "대댓글 목록")
+    private CursorResponse<CommentResponseDto> replies;
+}
@@ -1,10 +1,5 @@
 package com.fishgo.posts.comments.dto.mapper;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fishgo.common.constants.ErrorCode;
-import com.fishgo.common.exception.CustomException;
 import com.fishgo.posts.comments.domain.Comment;
 import com.fishgo.posts.comments.domain.CommentStatus;
 import com.fishgo.posts.comments.dto.CommentCreateRequestDto;
@@ -18,8 +13,6 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
-import java.util.Map;
-
 
 @Mapper(componentModel = "spring")
 public interface CommentMapper {
@@ -40,6 +33,7 @@ public interface CommentMapper {
     @Mapping(target = "mention", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "status", ignore = true)
+    @Mapping(target = "replyCount", ignore = true)
     Comment toCreateEntity(CommentCreateRequestDto dto);
 
 
@@ -60,6 +54,7 @@ public interface CommentMapper {
     @Mapping(target = "firstReply", ignore = true)
     @Mapping(target = "remainingReplyCount", ignore = true)
     @Mapping(target = "mentionedUser", ignore = true)
+    @Mapping(target = "replyCursor", ignore = true)
     CommentWithFirstReplyResponseDto toResponse(Comment comment);
 
     @AfterMapping
@@ -107,32 +102,39 @@ public interface CommentMapper {
     @Mapping(target = "firstReply", ignore = true)
     @Mapping(target = "remainingReplyCount", ignore = true)
     @Mapping(target = "mentionedUser", ignore = true)
+    @Mapping(target = "replyCursor", ignore = true)
     CommentWithFirstReplyResponseDto projectionToResponse(ParentCommentProjection projection);
 
     @AfterMapping
     default void setMentionedUser(@MappingTarget CommentWithFirstReplyResponseDto response, ParentCommentProjection projection) {
-        // {"mentionUserId":123,"mentionUserName":"foo"}
-        String mentionedUserJson = projection.getMentionedUser();
-
-        if(mentionedUserJson != null) {
-            ObjectMapper objectMapper = new ObjectMapper();
-            try {
-                Map<String, Object> parsedMention = objectMapper.readValue(
-                        mentionedUserJson,
-                        new TypeReference<>() {}
-                );
-
-                CommentMentionDto dto = new CommentMentionDto();
-                dto.setId(Long.parseLong((String) parsedMention.get("mentionUserId")));
-                dto.setName(parsedMention.get("mentionUserName").toString());
-
-                response.setMentionedUser(dto);
-
-            } catch (JsonProcessingException e) {
-                throw new CustomException(ErrorCode.JSON_PARSE_ERROR.getCode(),
-                        "JSON parse error");
-            }
+        response.setMentionedUser(toMentionDto(projection.getMentionUserId(), projection.getMentionUserName()));
+    }
+
+    /**
+     * 부모 댓글 Projection 에 포함된 첫 번째 대댓글 -> 응답용 DTO 변환
+     * @return 대댓글이 없으면 null
+     */
+    default CommentResponseDto projectionToFirstReply(ParentCommentProjection projection) {
+        if (projection.getFirstReplyId() == null) {
+            return null;
         }
+
+        CommentResponseDto response = new CommentResponseDto();
+        response.setId(projection.getFirstReplyId());
+        response.setUserId(projection.getFirstReplyUserId());
+        response.setName(projection.getFirstReplyName());
+        // 프로필 이미지 경로는 userId 로 만들어지므로 userId 이후에 설정
+        response.setProfileImg(projection.getFirstReplyProfileImg());
+        response.setContents(projection.getFirstReplyContents());
+        response.setCreatedAt(projection.getFirstReplyCreatedAt());
+        response.setUpdatedAt(projection.getFirstReplyUpdatedAt());
+        response.setParentId(projection.getCommentId());
+        response.setLikeCount(projection.getFirstReplyLikeCount() == null ? 0L : projection.getFirstReplyLikeCount().longValue());
+        response.setStatus(projection.getFirstReplyStatus());
+        response.setMentionedUser(toMentionDto(projection.getFirstReplyMentionUserId(), projection.getFirstReplyMentionUserName()));
+        setContentsByStatus(response, projection.getFirstReplyStatus());
+
+        return response;
     }
 
     @AfterMapping
@@ -140,6 +142,18 @@ public interface CommentMapper {
         setContentsByStatus(response, projection.getStatus());
     }
 
+    private CommentMentionDto toMentionDto(Long mentionUserId, String mentionUserName) {
+        if (mentionUserId == null) {
+            return null;
+        }
+
+        CommentMentionDto dto = new CommentMentionDto();
+        dto.setId(mentionUserId);
+        dto.setName(mentionUserName);
+
+        return dto;
+    }
+
     private CommentMentionDto toMentionDto(Comment comment){
         if (comment.getMention() == null
                 || comment.getMention().getMentionedUser() == null) {
@@ -18,8 +18,21 @@ public interface ParentCommentProjection {
     Long getFirstReplyId();
     Integer getRemainingReplyCount();
 
-    // 단일 멘션 (JSON 문자열로 가져옴)
-    String getMentionedUser();
+    // 첫 번째 대댓글 표시 정보 (대댓글이 없으면 모두 null)
+    Long getFirstReplyUserId();
+    String getFirstReplyContents();
+    LocalDateTime getFirstReplyCreatedAt();
+    LocalDateTime getFirstReplyUpdatedAt();
+    Integer getFirstReplyLikeCount();
+    CommentStatus getFirstReplyStatus();
+    String getFirstReplyProfileImg();
+    String getFirstReplyName();
+    Long getFirstReplyMentionUserId();
+    String getFirstReplyMentionUserName();
+
+    // 단일 멘션 (없으면 null)
+    Long getMentionUserId();
+    String getMentionUserName();
 
 
 }
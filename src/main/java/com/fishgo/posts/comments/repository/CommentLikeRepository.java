@@ -2,9 +2,15 @@ package com.fishgo.posts.comments.repository;
 
 import com.fishgo.posts.comments.domain.CommentLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
@@ -15,5 +21,32 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
     // “이미 좋아요가 눌린 상태인지?” 확인할 때 사용
     boolean existsByCommentIdAndUserId(Long commentId, Long userId);
 
+    /**
+     * 좋아요 이력을 추가합니다. 이미 있거나 댓글이 없으면 아무것도 하지 않습니다.
+     * (uk_comment_like_comment_user 유니크 인덱스로 동시 요청도 한 건만 추가됨)
+     * @return 추가된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO comment_like (comment_id, user_id, created_at)
+            SELECT :commentId, :userId, now()
+            WHERE EXISTS (SELECT 1 FROM comment WHERE id = :commentId)
+            ON CONFLICT (comment_id, user_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIgnoringConflict(@Param("commentId") Long commentId, @Param("userId") Long userId);
+
+    // 좋아요 이력 삭제 (삭제된 행 수 반환)
+    @Modifying
+    @Query(value = "DELETE FROM comment_like WHERE comment_id = :commentId AND user_id = :userId", nativeQuery = true)
+    int deleteByCommentIdAndUserIdReturningCount(@Param("commentId") Long commentId, @Param("userId") Long userId);
+
+    // 댓글에 좋아요를 누른 사용자 ID 전체 (좋아요 멤버십 적재용)
+    @Query("SELECT cl.user.id FROM CommentLike cl WHERE cl.comment.id = :commentId")
+    List<Long> findUserIdsByCommentId(@Param("commentId") Long commentId);
+
+    // 목록 내 댓글 중 사용자가 좋아요를 누른 댓글 ID (좋아요 여부 일괄 조회)
+    @Query("SELECT cl.comment.id FROM CommentLike cl WHERE cl.user.id = :userId AND cl.comment.id IN :commentIds")
+    Set<Long> findLikedCommentIds(@Param("userId") Long userId, @Param("commentIds") Collection<Long> commentIds);
+
     void deleteAllByCommentId(Long commentId);
 }
@@ -11,10 +11,37 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     Page<Comment> findAllByParentId(Long parentId, Pageable pageable);
 
+    /**
+     * 대댓글 커서 조회 ((createdAt, id) 이후부터, 첫 번째 대댓글 조회와 같은 정렬)
+     * 작성자/멘션 프로필을 함께 가져와 응답 변환 시 추가 조회가 없도록 합니다. (idx_comment_parent_created 인덱스 사용)
+     */
+    @Query("""
+            SELECT c FROM Comment c
+            JOIN FETCH c.user u
+            LEFT JOIN FETCH u.profile
+            LEFT JOIN FETCH c.mention m
+            LEFT JOIN FETCH m.mentionedUser mu
+            LEFT JOIN FETCH mu.profile
+            WHERE c.parent.id = :parentId
+              AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id))
+            ORDER BY c.createdAt, c.id
+            """)
+    List<Comment> findRepliesAfter(@Param("parentId") Long parentId,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id,
+                                   Pageable pageable);
+
+    @Query("SELECT c.replyCount FROM Comment c WHERE c.id = :commentId")
+    Optional<Integer> findReplyCountById(@Param("commentId") Long commentId);
+
     @Query("SELECT NEW com.fishgo.posts.comments.dto.CommentStatsDto(" +
             "COUNT(c), COALESCE(SUM(c.likeCount), 0)) " +
             "FROM Comment c WHERE c.user.id = :userId")
@@ -22,17 +49,12 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     /**
      * 부모 댓글 + 가장 첫 번째 대댓글 + 남은 대댓글 개수를 한 번에 조회
+     * 대댓글은 페이지의 부모 댓글마다 LATERAL 로 찾으므로 해당 게시글의 댓글만 읽습니다.
+     * 첫 번째 대댓글의 표시 정보(작성자, 멘션 포함)도 함께 가져오므로 대댓글 엔티티를 따로 조회하지 않습니다.
+     * 멘션은 댓글당 하나(comment_mention.comment_id 1:1)이므로 JOIN 해도 행이 늘어나지 않습니다.
+     * (idx_comment_post_parent_created, idx_comment_parent_created 인덱스 사용)
      */
     @Query(value = """
-        WITH RankedReplies AS (
-            SELECT
-                r.id AS reply_id,
-                r.parent_id,
-                ROW_NUMBER() OVER (PARTITION BY r.parent_id ORDER BY r.created_at) AS rn,
-                (COUNT(*) OVER (PARTITION BY r.parent_id) - 1) AS remaining_count
-            FROM comment r
-            WHERE r.parent_id IS NOT NULL
-        )
         SELECT
             c.id                AS comment_id,
             c.user_id           AS user_id,
@@ -43,23 +65,39 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             c.status            AS status,
             p.profile_img       AS profile_img,
             p."name" 	        AS "name",
-            rr.reply_id         AS first_reply_id,
-            rr.remaining_count  AS remaining_reply_count,
-            (
-             SELECT json_build_object(
-                 'mentionUserId', m.mentioned_user_id,
-                 'mentionUserName', pu."name"
-               )
-             FROM comment_mention m
-             JOIN profile pu ON m.mentioned_user_id = pu.user_id
-             WHERE m.comment_id = c.id
-            ) AS mentioned_user
+            fr.id               AS first_reply_id,
+            fr.user_id          AS first_reply_user_id,
+            fr.contents         AS first_reply_contents,
+            fr.created_at       AS first_reply_created_at,
+            fr.updated_at       AS first_reply_updated_at,
+            fr.like_count       AS first_reply_like_count,
+            fr.status           AS first_reply_status,
+            fr.profile_img      AS first_reply_profile_img,
+            fr."name"           AS first_reply_name,
+            fr.mention_user_id   AS first_reply_mention_user_id,
+            fr.mention_user_name AS first_reply_mention_user_name,
+            CASE WHEN fr.id IS NULL THEN 0
+                 ELSE GREATEST(c.reply_count - 1, 0)
+            END                 AS remaining_reply_count,
+            m.mentioned_user_id AS mention_user_id,
+            pu."name"           AS mention_user_name
         FROM comment c
         JOIN profile p
                 ON c.user_id = p.user_id
-        LEFT JOIN RankedReplies rr
-               ON c.id = rr.parent_id
-              AND rr.rn = 1
+        LEFT JOIN (comment_mention m JOIN profile pu ON m.mentioned_user_id = pu.user_id)
+                ON m.comment_id = c.id
+        LEFT JOIN LATERAL (
+            SELECT r.id, r.user_id, r.contents, r.created_at, r.updated_at, r.like_count, r.status,
+                   rp.profile_img, rp."name",
+                   rm.mentioned_user_id AS mention_user_id, rmp."name" AS mention_user_name
+            FROM comment r
+            LEFT JOIN profile rp ON r.user_id = rp.user_id
+            LEFT JOIN (comment_mention rm JOIN profile rmp ON rm.mentioned_user_id = rmp.user_id)
+                    ON rm.comment_id = r.id
+            WHERE r.parent_id = c.id
+            ORDER BY r.created_at, r.id
+            LIMIT 1
+        ) fr ON true
         WHERE c.posts_id = :postId
           AND c.parent_id IS NULL
         ORDER BY c.created_at DESC
@@ -83,6 +121,16 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     void updateCommentStatusByUserId(Long userId, CommentStatus status);
 
 
+    // 좋아요 수 증감 (엔티티를 읽지 않고 DB 에서 원자적으로 갱신)
+    @Modifying
+    @Query(value = "UPDATE comment SET like_count = like_count + :delta WHERE id = :commentId", nativeQuery = true)
+    void addLikeCount(@Param("commentId") Long commentId, @Param("delta") int delta);
+
+    // 대댓글 수 증감
+    @Modifying
+    @Query(value = "UPDATE comment SET reply_count = reply_count + :delta WHERE id = :commentId", nativeQuery = true)
+    void addReplyCount(@Param("commentId") Long commentId, @Param("delta") int delta);
+
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.user.id = :userId")
     Long countByUserId(@Param("userId") Long userId);
 
@@ -1,14 +1,19 @@
 package com.fishgo.posts.comments.service;
 
-import com.fishgo.posts.comments.domain.Comment;
-import com.fishgo.posts.comments.domain.CommentLike;
 import com.fishgo.posts.comments.repository.CommentLikeRepository;
 import com.fishgo.posts.comments.repository.CommentRepository;
+import com.fishgo.posts.service.CountBufferService;
+import com.fishgo.posts.service.CountBufferService.Counter;
+import com.fishgo.posts.service.LikeMembershipService;
+import com.fishgo.posts.service.LikeMembershipService.Target;
 import com.fishgo.users.domain.Users;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 댓글 좋아요 누르기/취소 (증감 방식은 CountBufferService 참고)
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -16,45 +21,33 @@ public class CommentLikeService {
 
     private final CommentLikeRepository commentLikeRepository;
     private final CommentRepository commentRepository;
+    private final CountBufferService countBufferService;
+    private final LikeMembershipService likeMembershipService;
 
     // 좋아요 누르기
     public void likeComment(Long commentId, Users currentUser) {
 
-        // 이미 좋아요 눌렀는지 확인 (중복 방지)
-        boolean alreadyLiked = commentLikeRepository.existsByCommentIdAndUserId(commentId, currentUser.getId());
-        if (alreadyLiked) {
+        // 좋아요 이력 추가 (이미 눌렀거나 댓글이 없으면 0)
+        if (commentLikeRepository.insertIgnoringConflict(commentId, currentUser.getId()) == 0) {
+            if (!commentRepository.existsById(commentId)) {
+                throw new IllegalArgumentException("존재하지 않는 댓글입니다.");
+            }
             throw new IllegalStateException("이미 좋아요를 누른 댓글입니다.");
         }
 
-        // 댓글 조회
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 댓글입니다."));
-
-        // 좋아요 이력 생성
-        CommentLike commentLike = CommentLike.builder()
-                .comment(comment)
-                .user(currentUser)
-                .build();
-
-        commentLikeRepository.save(commentLike);
-
-        // (선택) Comment의 likeCount 증감
-        comment.setLikeCount(comment.getLikeCount() + 1);
+        countBufferService.add(Counter.COMMENT_LIKE, commentId, 1);
+        likeMembershipService.record(Target.COMMENT, commentId, currentUser.getId(), true);
     }
 
     // 좋아요 취소
     public void unlikeComment(Long commentId, Users currentUser) {
 
-        // 좋아요 이력 조회
-        CommentLike commentLike = commentLikeRepository
-                .findByCommentIdAndUserId(commentId, currentUser.getId())
-                .orElseThrow(() -> new IllegalStateException("좋아요를 누른 기록이 없습니다."));
-
-        // DB에서 제거
-        commentLikeRepository.delete(commentLike);
+        // 좋아요 이력 삭제 (기록이 없으면 0)
+        if (commentLikeRepository.deleteByCommentIdAndUserIdReturningCount(commentId, currentUser.getId()) == 0) {
+            throw new IllegalStateException("좋아요를 누른 기록이 없습니다.");
+        }
 
-        // (선택) likeCount 감소
-        Comment comment = commentLike.getComment();
-        comment.setLikeCount(comment.getLikeCount() - 1);
+        countBufferService.add(Counter.COMMENT_LIKE, commentId, -1);
+        likeMembershipService.record(Target.COMMENT, commentId, currentUser.getId(), false);
     }
-}
\ No newline at end of file
+}
@@ -5,16 +5,21 @@ import com.fishgo.common.exception.CustomException;
 import com.fishgo.badge.event.CommentCreatedEvent;
 import com.fishgo.common.constants.ErrorCode;
 import com.fishgo.common.exception.CustomException;
+import com.fishgo.common.response.CursorResponse;
 import com.fishgo.common.service.PageService;
+import com.fishgo.common.util.CursorHelper;
 import com.fishgo.posts.comments.domain.Comment;
 import com.fishgo.posts.comments.domain.CommentMention;
 import com.fishgo.posts.comments.domain.CommentStatus;
 import com.fishgo.posts.comments.dto.*;
 import com.fishgo.posts.comments.dto.mapper.CommentMapper;
 import com.fishgo.posts.comments.dto.projection.ParentCommentProjection;
-import com.fishgo.posts.comments.repository.CommentLikeRepository;
 import com.fishgo.posts.comments.repository.CommentRepository;
 import com.fishgo.posts.domain.Posts;
+import com.fishgo.posts.service.CountBufferService;
+import com.fishgo.posts.service.CountBufferService.Counter;
+import com.fishgo.posts.service.LikeMembershipService;
+import com.fishgo.posts.service.LikeMembershipService.Target;
 import com.fishgo.posts.service.PostsService;
 import com.fishgo.users.domain.Users;
 import com.fishgo.users.repository.UsersRepository;
@@ -23,12 +28,16 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -41,8 +50,15 @@ public class CommentService {
     private final PageService pageService;
     private final PostsService postsService;
     private final CommentMapper commentMapper;
-    private final CommentLikeRepository commentLikeRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final CountBufferService countBufferService;
+    private final LikeMembershipService likeMembershipService;
+
+    // 대댓글 커서 조회 최대 개수
+    private static final int MAX_REPLY_SIZE = 50;
+
+    // 커서 없이 조회할 때의 시작 위치 (가장 오래된 대댓글부터)
+    private static final LocalDateTime FIRST_REPLY_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
 
     /**
      * 댓글 및 해당 댓글의 첫번째 대댓글, 그리고 남은 대댓글 개수를 반환한다.
@@ -75,22 +91,33 @@ public class CommentService {
                     projection.getRemainingReplyCount() == null ? 0 : projection.getRemainingReplyCount()
             );
 
-            // 2-2) 첫 번째 대댓글이 있는 경우, 실제 댓글 엔티티를 다시 조회해 Mapper로 변환
-            if (projection.getFirstReplyId() != null) {
-                Comment firstReply = commentRepository.findById(projection.getFirstReplyId())
-                        .orElse(null);
-                if (firstReply != null) {
-                    CommentResponseDto replyDto = commentMapper.toReplyResponse(firstReply);
-                    parentDto.setFirstReply(replyDto);
-                }
+            // 2-2) 첫 번째 대댓글 (같은 조회 결과에 포함되어 있음, 없으면 null)
+            CommentResponseDto firstReply = commentMapper.projectionToFirstReply(projection);
+            parentDto.setFirstReply(firstReply);
+
+            // 2-3) 나머지 대댓글은 첫 번째 대댓글 이후부터 커서로 조회
+            if (firstReply != null && parentDto.getRemainingReplyCount() > 0) {
+                parentDto.setReplyCursor(CursorHelper.encodeReply(firstReply.getCreatedAt(), firstReply.getId(), 1));
             }
 
             return parentDto;
         });
 
-        // 3) 좋아요 여부
+        // 부모 댓글과 첫 번째 대댓글을 모아 아래 일괄 조회에 사용
+        List<CommentResponseDto> withReplies = new ArrayList<>();
+        for (CommentWithFirstReplyResponseDto parent : dtoPage) {
+            withReplies.add(parent);
+            if (parent.getFirstReply() != null) {
+                withReplies.add(parent.getFirstReply());
+            }
+        }
+
+        // 3) 아직 DB 에 반영되지 않은 좋아요 수 증감분
+        applyPendingLikeCounts(withReplies);
+
+        // 4) 좋아요 여부
         if(currentUser != null){
-            fillLikeStatusRecursively(dtoPage, currentUser.getId());
+            fillLikeStatus(withReplies, currentUser.getId());
         }
 
         return dtoPage;
@@ -101,7 +128,10 @@ public class CommentService {
      * @param parentId 부모 댓글 아이디
      * @param pageable 페이지에이블 객체
      * @return 페이지에이블 객체
+     * @deprecated 첫 페이지에서 첫 번째 대댓글을 제거하므로 페이지마다 개수가 다르고, 부모 댓글과 함께 받은
+     *             첫 번째 대댓글과 정렬 기준(id)이 달라 다른 대댓글이 빠질 수 있습니다. {@link #getReplyFeed} 를 사용하세요.
      */
+    @Deprecated
     @Transactional(readOnly = true)
     public RepliesResponseDto getReplies(Long parentId, Pageable pageable, Users currentUser) {
         Page<Comment> replies = commentRepository.findAllByParentId(parentId, pageable);
@@ -121,9 +151,10 @@ public class CommentService {
             replyDtoPage = new PageImpl<>(contentList, pageable, replies.getTotalElements());
         }
 
+        applyPendingLikeCounts(replyDtoPage.getContent());
 
         if(currentUser != null) {
-            fillLikeStatusForReplies(replyDtoPage, currentUser.getId());
+            fillLikeStatus(replyDtoPage.getContent(), currentUser.getId());
         }
 
 
@@ -134,6 +165,55 @@ public class CommentService {
     }
 
 
+    /**
+     * 대댓글 커서 조회
+     * (createdAt, id) 이후부터 size + 1 건을 조회해 다음 목록 존재 여부를 판단하고,
+     * 남은 개수는 부모 댓글의 대댓글 수와 커서에 담긴 본 개수로 계산합니다. (COUNT 쿼리 없음)
+     * @param parentId 부모 댓글 아이디
+     * @param cursor 부모 댓글 응답의 replyCursor 또는 이전 응답의 nextCursor (없으면 첫 대댓글부터)
+     * @param size 조회 개수
+     * @param currentUser 현재 접속 중인 유저 객체
+     * @return 대댓글 커서 응답 객체
+     */
+    @Transactional(readOnly = true)
+    public ReplyFeedResponseDto getReplyFeed(Long parentId, String cursor, int size, Users currentUser) {
+        int replyCount = commentRepository.findReplyCountById(parentId)
+                .orElseThrow(() -> new IllegalArgumentException("부모 댓글이 존재하지 않습니다."));
+        int pageSize = Math.max(1, Math.min(size, MAX_REPLY_SIZE));
+
+        CursorHelper.ReplyCursor after = cursor == null ? null : CursorHelper.decodeReply(cursor);
+        long seen = after == null ? 0 : after.seen();
+
+        // 다음 목록 존재 여부 확인을 위해 1건 더 조회
+        List<Comment> rows = commentRepository.findRepliesAfter(parentId,
+                after == null ? FIRST_REPLY_CREATED_AT : after.createdAt(), after == null ? 0L : after.id(),
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<CommentResponseDto> content = rows.stream()
+                .limit(pageSize)
+                .map(commentMapper::toReplyResponse)
+                .toList();
+
+        applyPendingLikeCounts(content);
+
+        if(currentUser != null) {
+            fillLikeStatus(content, currentUser.getId());
+        }
+
+        String nextCursor = null;
+        long remainingRepliesCount = 0;
+        if (hasNext) {
+            CommentResponseDto last = content.get(content.size() - 1);
+            seen += content.size();
+            nextCursor = CursorHelper.encodeReply(last.getCreatedAt(), last.getId(), seen);
+            // 조회 사이에 대댓글이 추가되어도 음수가 되지 않도록 최소 1 (다음 목록이 있으므로)
+            remainingRepliesCount = Math.max(replyCount - seen, 1);
+        }
+
+        return new ReplyFeedResponseDto(remainingRepliesCount, new CursorResponse<>(content, nextCursor, hasNext));
+    }
+
     /**
      * 댓글 작성
      * @param dto 댓글 작성 요청 객체
@@ -171,6 +251,10 @@ public class CommentService {
 
         Comment savedComment = commentRepository.save(comment);
 
+        if (dto.getParentId() != null) {
+            commentRepository.addReplyCount(dto.getParentId(), 1);
+        }
+
         // 뱃지 이벤트
         eventPublisher.publishEvent(new CommentCreatedEvent(savedComment));
 
@@ -226,33 +310,35 @@ public class CommentService {
     }
 
     /**
-     * 댓글 좋아요 여부 판별
-     * @param list 조회가 완료된 페이지네이션 댓글 응답 객체
-     * @param userId 유저 아이디
+     * 댓글 좋아요 수에 아직 DB 에 반영되지 않은 증감분을 더함 (쓰기 지연 모드)
+     * @param comments 조회가 완료된 댓글 응답 객체 목록
      */
-    private void fillLikeStatusRecursively(Page<CommentWithFirstReplyResponseDto> list, Long userId) {
-        for (CommentWithFirstReplyResponseDto resp : list) {
-            boolean liked = commentLikeRepository.existsByCommentIdAndUserId(resp.getId(), userId);
-            resp.setLiked(liked);
-
-            // 자식 댓글이 있다면 재귀적으로 처리
-            if (resp.getFirstReply() != null) {
-                fillLikeStatusRecursively(resp.getFirstReply(), userId);
+    private void applyPendingLikeCounts(List<? extends CommentResponseDto> comments) {
+        Map<Long, Integer> pending = countBufferService.getPending(Counter.COMMENT_LIKE,
+                comments.stream().map(CommentResponseDto::getId).toList());
+        if (pending.isEmpty()) return;
+
+        for (CommentResponseDto comment : comments) {
+            Integer delta = pending.get(comment.getId());
+            if (delta != null) {
+                comment.setLikeCount(comment.getLikeCount() + delta);
             }
         }
     }
 
-    private void fillLikeStatusRecursively(CommentResponseDto dto, Long userId) {
-        boolean liked = commentLikeRepository.existsByCommentIdAndUserId(dto.getId(), userId);
-        dto.setLiked(liked);
-
-    }
+    /**
+     * 댓글 좋아요 여부 판별 (멤버십이 적재된 댓글은 메모리에서, 나머지는 한 번의 쿼리로 조회)
+     * @param comments 조회가 완료된 댓글 응답 객체 목록
+     * @param userId 유저 아이디
+     */
+    private void fillLikeStatus(List<? extends CommentResponseDto> comments, Long userId) {
+        if (comments.isEmpty()) return;
 
-    private void fillLikeStatusForReplies(Page<CommentResponseDto> list, Long userId) {
-        for (CommentResponseDto resp : list) {
-            boolean liked = commentLikeRepository.existsByCommentIdAndUserId(resp.getId(), userId);
-            resp.setLiked(liked);
+        Set<Long> likedIds = likeMembershipService.findLiked(Target.COMMENT, userId,
+                comments.stream().map(CommentResponseDto::getId).toList());
 
+        for (CommentResponseDto comment : comments) {
+            comment.setLiked(likedIds.contains(comment.getId()));
         }
     }
 
@@ -1,19 +1,29 @@
 package com.fishgo.posts.controller;
 
 import com.fishgo.common.response.ApiResponse;
+import com.fishgo.common.response.CursorResponse;
+import com.fishgo.posts.dto.HeatmapCellDto;
+import com.fishgo.posts.dto.MapClusterResponseDto;
+import com.fishgo.posts.dto.NearbyPostDto;
+import com.fishgo.posts.dto.NearbySort;
 import com.fishgo.posts.dto.PinpointDto;
+import com.fishgo.posts.service.CatchHeatmapService;
+import com.fishgo.posts.service.MapClusterService;
+import com.fishgo.posts.service.MapLiveService;
 import com.fishgo.posts.service.MapService;
+import com.fishgo.posts.service.MapTileService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -25,6 +35,10 @@ import java.util.List;
 public class MapController {
 
     private final MapService mapService;
+    private final MapClusterService mapClusterService;
+    private final MapTileService mapTileService;
+    private final CatchHeatmapService catchHeatmapService;
+    private final MapLiveService mapLiveService;
 
     @Operation(summary = "핀포인트 목록 조회", description = "최소 위경도와 최대 위경도로 해당 구간 내의 게시글을 검색합니다.")
     @GetMapping
@@ -37,4 +51,89 @@ public class MapController {
 
         return ResponseEntity.ok().body(new ApiResponse<>("핀포인트 조회 성공.", HttpStatus.OK.value(), pinpoints));
     }
+
+    @Operation(summary = "지도 클러스터 조회", description = "지도 영역과 줌 레벨로 게시글 클러스터(셀별 게시글 수와 중심 좌표)를 조회합니다. " +
+            "줌 레벨 " + MapClusterService.PIN_ZOOM + " 이상에서는 개별 핀포인트를 반환합니다.")
+    @GetMapping("/clusters")
+    public ResponseEntity<ApiResponse<MapClusterResponseDto>> getClusters(@RequestParam Double minLat, @RequestParam Double minLon,
+                                                                         @RequestParam Double maxLat, @RequestParam Double maxLon,
+                                                                         @Parameter(description = "지도 줌 레벨 (0 ~ 21)")
+                                                                         @RequestParam Integer zoom) {
+
+        MapClusterResponseDto clusters = mapClusterService.getClusters(minLat, minLon, maxLat, maxLon, zoom);
+
+        return ResponseEntity.ok().body(new ApiResponse<>("클러스터 조회 성공.", HttpStatus.OK.value(), clusters));
+    }
+
+    @Operation(summary = "조과 히트맵 조회", description = "지도 영역 내 지오해시 셀(약 5km)별 게시글 수를 조회합니다. 어종과 월로 거를 수 있습니다.")
+    @GetMapping("/heatmap")
+    public ResponseEntity<ApiResponse<List<HeatmapCellDto>>> getHeatmap(@RequestParam Double minLat, @RequestParam Double minLon,
+                                                                        @RequestParam Double maxLat, @RequestParam Double maxLon,
+                                                                        @Parameter(description = "어종 (생략 시 전체)")
+                                                                        @RequestParam(required = false) String fishType,
+                                                                        @Parameter(description = "월 1 ~ 12 (생략 시 전체)")
+                                                                        @RequestParam(required = false) Integer month) {
+
+        List<HeatmapCellDto> cells = catchHeatmapService.getHeatmap(minLat, minLon, maxLat, maxLon, fishType, month);
+
+        return ResponseEntity.ok().body(new ApiResponse<>("히트맵 조회 성공.", HttpStatus.OK.value(), cells));
+    }
+
+    @Operation(summary = "주변 조과 조회", description = "기준 위치 반경 내 최근 N일 게시글을 가까운 순 또는 최신순으로 조회합니다. " +
+            "다음 페이지는 응답의 nextCursor 를 cursor 로 전달해 조회합니다.")
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<CursorResponse<NearbyPostDto>>> getNearby(@RequestParam Double lat, @RequestParam Double lon,
+                                                                                @Parameter(description = "반경(km), 최대 50")
+                                                                                @RequestParam(required = false, defaultValue = "5") Double radiusKm,
+                                                                                @Parameter(description = "최근 N일, 최대 365")
+                                                                                @RequestParam(required = false, defaultValue = "7") Integer days,
+                                                                                @Parameter(description = "정렬 기준 (distance: 가까운 순, recent: 최신순)")
+                                                                                @RequestParam(required = false, defaultValue = "distance") String sort,
+                                                                                @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+                                                                                @RequestParam(required = false) String cursor,
+                                                                                @RequestParam(required = false, defaultValue = "20") Integer size) {
+
+        CursorResponse<NearbyPostDto> posts = mapService.getNearby(lat, lon, radiusKm, days, NearbySort.from(sort), cursor, size);
+
+        return ResponseEntity.ok().body(new ApiResponse<>("주변 조과 조회 성공.", HttpStatus.OK.value(), posts));
+    }
+
+    @Operation(summary = "핀포인트 타일 조회", description = "웹 메르카토르 타일(z/x/y) 내 핀포인트를 바이너리 형식으로 조회합니다. " +
+            "형식은 MapTileService 참고. If-None-Match 로 재검증하면 변경되지 않은 타일은 304 를 반환합니다.")
+    @GetMapping("/tiles/{z}/{x}/{y}")
+    public ResponseEntity<byte[]> getTile(@PathVariable int z, @PathVariable int x, @PathVariable int y,
+                                          WebRequest webRequest) {
+
+        MapTileService.Tile tile = mapTileService.getTile(z, x, y);
+
+        if (webRequest.checkNotModified(tile.etag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(tile.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(tile.body());
+    }
+
+    @Operation(summary = "실시간 지도 구독 (SSE)", description = "뷰포트 안에서 생기거나 사라지는 핀포인트를 실시간으로 받습니다. " +
+            "첫 이벤트(subscribed)의 데이터가 구독 ID 이며, 이후 변경은 pins 이벤트({upserted, removed})로 전달됩니다.")
+    @GetMapping(value = "/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeLive(@RequestParam Double minLat, @RequestParam Double minLon,
+                                    @RequestParam Double maxLat, @RequestParam Double maxLon) {
+
+        return mapLiveService.subscribe(minLat, minLon, maxLat, maxLon);
+    }
+
+    @Operation(summary = "실시간 지도 뷰포트 변경", description = "지도를 이동했을 때 재연결 없이 구독 중인 뷰포트를 변경합니다.")
+    @PutMapping("/live/{subscriptionId}")
+    public ResponseEntity<ApiResponse<String>> updateLiveViewport(@PathVariable String subscriptionId,
+                                                                  @RequestParam Double minLat, @RequestParam Double minLon,
+                                                                  @RequestParam Double maxLat, @RequestParam Double maxLon) {
+
+        mapLiveService.updateViewport(subscriptionId, minLat, minLon, maxLat, maxLon);
+
+        return ResponseEntity.ok(new ApiResponse<>("뷰포트 변경 성공.", HttpStatus.OK.value()));
+    }
 }
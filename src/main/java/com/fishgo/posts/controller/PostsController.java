@@ -3,8 +3,10 @@ package com.fishgo.posts.controller;
 import com.fishgo.common.constants.ErrorCode;
 import com.fishgo.common.exception.CustomException;
 import com.fishgo.common.response.ApiResponse;
+import com.fishgo.common.response.CursorResponse;
 import com.fishgo.posts.domain.Posts;
 import com.fishgo.posts.dto.*;
+import com.fishgo.posts.service.PostsFeedCacheService;
 import com.fishgo.posts.service.PostsLikeService;
 import com.fishgo.posts.service.PostsService;
 import com.fishgo.users.domain.Users;
@@ -37,21 +39,74 @@ public class PostsController {
 
     private final PostsService postsService;
     private final PostsLikeService postsLikeService;
+    private final PostsFeedCacheService feedCacheService;
 
     @Operation(summary = "게시글 목록 조회", description = "page, size로 게시글 목록을 조회 합니다.")
     @GetMapping
     public ResponseEntity<ApiResponse<Page<PostListResponseDto>>> getPosts(
             @RequestParam(value = "page", defaultValue = "0") int page,
-            @RequestParam(value = "size", defaultValue = "20") int size) {
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @AuthenticationPrincipal Users currentUser) {
+
+        if (page < 0 || size <= 0 || size > 100) {
+            throw new CustomException(ErrorCode.BAD_REQUEST.getCode(), "page 는 0 이상, size 는 1 ~ 100 이어야 합니다.");
+        }
 
         // 페이지 번호(page), 조회 개수(size)로 PageRequest 생성
         Pageable pageable = PageRequest.of(page, size, Sort.by("id").descending());
 
-        Page<PostListResponseDto> responseDtos = postsService.getAllPosts(pageable);
+        Page<PostListResponseDto> responseDtos = postsService.getAllPosts(pageable, currentUser);
 
         return ResponseEntity.ok(new ApiResponse<>("게시글 조회 성공", HttpStatus.OK.value(), responseDtos));
     }
 
+    @Operation(summary = "게시글 목록 캐시 통계", description = "게시글 목록 캐시의 적중/미스/축출 횟수를 조회합니다. (관리자 전용)")
+    @GetMapping("/feed-cache/stats")
+    public ResponseEntity<ApiResponse<FeedCacheStatsDto>> getFeedCacheStats() {
+        return ResponseEntity.ok(new ApiResponse<>("캐시 통계 조회 성공", HttpStatus.OK.value(),
+                feedCacheService.getStats()));
+    }
+
+    @Operation(summary = "게시글 피드 조회 (커서)", description = "cursor, size로 게시글 목록을 조회 합니다. " +
+            "첫 요청은 cursor 없이 보내고, 이후에는 응답의 nextCursor를 전달합니다.")
+    @GetMapping("/feed")
+    public ResponseEntity<ApiResponse<CursorResponse<PostListResponseDto>>> getFeed(
+            @Parameter(description = "이전 응답의 nextCursor")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @AuthenticationPrincipal Users currentUser) {
+
+        CursorResponse<PostListResponseDto> feed = postsService.getFeed(cursor, size, currentUser);
+
+        return ResponseEntity.ok(new ApiResponse<>("게시글 조회 성공", HttpStatus.OK.value(), feed));
+    }
+
+    @Operation(summary = "해시태그별 게시글 조회 (커서)", description = "해시태그의 게시글 수와 게시글 목록을 조회 합니다. " +
+            "첫 요청은 cursor 없이 보내고, 이후에는 응답의 nextCursor를 전달합니다.")
+    @GetMapping("/hashtags/{name}")
+    public ResponseEntity<ApiResponse<HashtagPostsResponseDto>> getPostsByHashtag(
+            @PathVariable String name,
+            @Parameter(description = "이전 응답의 nextCursor")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @AuthenticationPrincipal Users currentUser) {
+
+        HashtagPostsResponseDto response = postsService.getPostsByHashtag(name, cursor, size, currentUser);
+
+        return ResponseEntity.ok(new ApiResponse<>("게시글 조회 성공", HttpStatus.OK.value(), response));
+    }
+
+    @Operation(summary = "지도 핀 미리보기 일괄 조회", description = "여러 게시글의 제목, 대표 이미지, 어종, 크기, 작성자 이름을 한 번에 조회합니다. " +
+            "조회수는 증가하지 않습니다. (최대 50개)")
+    @GetMapping("/previews")
+    public ResponseEntity<ApiResponse<List<PostPreviewDto>>> getPostPreviews(
+            @Parameter(description = "게시글 ID 목록 (쉼표로 구분)", example = "1,2,3")
+            @RequestParam("ids") List<Long> ids) {
+
+        List<PostPreviewDto> previews = postsService.getPostPreviews(ids);
+
+        return ResponseEntity.ok(new ApiResponse<>("게시글 미리보기 조회 성공", HttpStatus.OK.value(), previews));
+    }
 
     @Operation(summary = "게시글 생성", description = "게시글의 내용으로 게시글을 생성 합니다.")
     @PostMapping("/create")
@@ -101,19 +156,24 @@ public class PostsController {
     }
 
 
-    @Operation(summary = "게시글 검색", description = "게시글의 제목 및 내용에 대해 검색합니다.(최소 두 글자)")
+    @Operation(summary = "게시글 검색", description = "게시글의 제목 및 내용에 대해 검색합니다.(최소 두 글자, sort: relevance | recent)")
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<Page<PostListResponseDto>>>
+    public ResponseEntity<ApiResponse<Page<PostSearchResponseDto>>>
     search (@RequestParam String query,
+            @RequestParam(value = "sort", defaultValue = "relevance") String sort,
             @RequestParam(value = "page", defaultValue = "0") int page,
-            @RequestParam(value = "size", defaultValue = "20") int size) {
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @AuthenticationPrincipal Users currentUser) {
 
         if (query.length() < 2) {
             throw new CustomException(ErrorCode.BAD_REQUEST.getCode(), "최소 2글자 이상이어야 검색 가능합니다.");
         }
+        if (page < 0 || size <= 0) {
+            throw new CustomException(ErrorCode.BAD_REQUEST.getCode(), "page 는 0 이상, size 는 1 이상이어야 합니다.");
+        }
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("id").descending());
-        Page<PostListResponseDto> postListResponse = postsService.searchPosts(query, pageable);
+        Pageable pageable = PageRequest.of(page, size);
+        Page<PostSearchResponseDto> postListResponse = postsService.searchPosts(query, PostSearchSort.from(sort), pageable, currentUser);
 
         return ResponseEntity.ok(new ApiResponse<>("게시글 검색 성공", HttpStatus.OK.value(), postListResponse));
     }
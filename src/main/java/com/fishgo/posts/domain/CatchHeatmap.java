@@ -0,0 +1,38 @@
+package com.fishgo.posts.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 조과 히트맵 집계 (지오해시 5자리 셀 x 어종 x 월별 활성 게시글 수)
+ * 게시글 작성/수정/삭제 시 같은 트랜잭션에서 증감 쿼리로만 갱신됩니다.
+ */
+@Entity
+@Table(name = "catch_heatmap", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_catch_heatmap_cell", columnNames = {"geohash", "fish_type", "catch_month"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CatchHeatmap {
+
+    // 집계 셀 지오해시 정밀도 (약 4.9km x 4.9km)
+    public static final int PRECISION = 5;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "geohash", nullable = false, length = PRECISION)
+    private String geohash;
+
+    // 어종이 없는 게시글은 빈 문자열
+    @Column(name = "fish_type", nullable = false)
+    private String fishType;
+
+    // 게시글 작성 월 (1 ~ 12)
+    @Column(name = "catch_month", nullable = false)
+    private int month;
+
+    @Column(name = "catch_count", nullable = false)
+    private long catchCount;
+}
@@ -0,0 +1,29 @@
+package com.fishgo.posts.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Redis 에 모아 둔 카운터 증감분을 DB 에 반영한 배치 기록
+ * 배치 반영과 같은 구문에서 INSERT ... ON CONFLICT 로 남기므로, 재시작 후 같은 배치를 다시 반영하려 하면 무시됩니다.
+ */
+@Entity
+@Table(name = "counter_flush_log")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CounterFlushLog {
+
+    @Id
+    @Column(name = "batch_id", length = 36)
+    private String batchId;
+
+    @Column(name = "counter", nullable = false)
+    private String counter;
+
+    @Column(name = "flushed_at", nullable = false)
+    private LocalDateTime flushedAt;
+}
@@ -2,9 +2,7 @@ package com.fishgo.posts.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
-
-import java.util.HashSet;
-import java.util.Set;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Getter
@@ -22,15 +20,15 @@ public class Hashtag {
     @Column(nullable = false, unique = true)
     private String name;
 
-    @ManyToMany(mappedBy = "hashtag")
-    @Builder.Default
-    private Set<Posts> posts = new HashSet<>();
+    // 활성 게시글 수 (게시글 작성/수정/삭제 시 증감 쿼리로만 갱신)
+    @Column(name = "post_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long postCount;
 
-    // @AllArgsConstructor 사용 시, Hashtag(Long id, String name)로 생성자가 생성 되기 때문에 최초 해시태그 생성 시
+    // @AllArgsConstructor 사용 시, Hashtag(Long id, String name, long postCount)로 생성자가 생성 되기 때문에 최초 해시태그 생성 시
     // id는 필요 없으므로 name만 받는 생성자 필요
     public Hashtag(String name) {
         this.name = name;
-        this.posts = new HashSet<>();
     }
 
 }
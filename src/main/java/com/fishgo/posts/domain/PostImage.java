@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "post_image")
+@Table(name = "post_image", indexes = {
+        @Index(name = "idx_post_image_post_id", columnList = "post_id")
+})
 @Getter
 @Setter
 @Builder
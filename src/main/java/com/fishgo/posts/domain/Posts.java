@@ -1,6 +1,7 @@
 package com.fishgo.posts.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fishgo.common.util.GeoHashHelper;
 import com.fishgo.users.domain.Users;
 import jakarta.persistence.*;
 import lombok.*;
@@ -16,7 +17,9 @@ import java.util.Set;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_active_id", columnList = "is_active, id DESC")
+})
 public class Posts {
 
     @Id
@@ -41,7 +44,8 @@ public class Posts {
     @JoinTable(
             name = "post_hashtag",
             joinColumns = @JoinColumn(name = "post_id"),
-            inverseJoinColumns = @JoinColumn(name = "hashtag_id")
+            inverseJoinColumns = @JoinColumn(name = "hashtag_id"),
+            indexes = @Index(name = "idx_post_hashtag_hashtag_post", columnList = "hashtag_id, post_id DESC")
     )
     @Builder.Default
     private Set<Hashtag> hashtag = new HashSet<>();
@@ -67,6 +71,10 @@ public class Posts {
     @Column(name = "lon")
     private Double lon;
 
+    // 위경도의 지오해시 (지도 영역 조회용, 저장 시 자동 계산)
+    @Column(name = "geohash", length = GeoHashHelper.MAX_PRECISION)
+    private String geohash;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -85,11 +93,19 @@ public class Posts {
     @PrePersist
     public void prePersist() {
         this.createdAt = LocalDateTime.now();
+        updateGeohash();
     }
 
     @PreUpdate
     public void preUpdate() {
         this.updatedAt = LocalDateTime.now();
+        updateGeohash();
+    }
+
+    private void updateGeohash() {
+        this.geohash = (lat != null && lon != null)
+                ? GeoHashHelper.encode(lat, lon, GeoHashHelper.MAX_PRECISION)
+                : null;
     }
 
     // 연관관계 메서드
@@ -103,14 +119,13 @@ public class Posts {
         postImage.setPost(null);
     }
 
+    // 게시글 -> 해시태그 단방향 연관관계 (post_hashtag 행만 추가/삭제되며 해시태그의 게시글 목록은 로딩하지 않음)
     public void addHashtag(Hashtag hashtag) {
         this.hashtag.add(hashtag);
-        hashtag.getPosts().add(this);
     }
 
     public void removeHashtag(Hashtag hashtag) {
         this.hashtag.remove(hashtag);
-        hashtag.getPosts().remove(this);
     }
 
     public void increaseViewCount() {
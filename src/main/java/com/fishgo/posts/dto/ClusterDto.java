@@ -0,0 +1,23 @@
+package com.fishgo.posts.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Schema(description = "지도 클러스터 DTO")
+@Getter
+@AllArgsConstructor
+public class ClusterDto {
+
+    @Schema(description = "클러스터 셀 지오해시", example = "wydm9")
+    private String geohash;
+
+    @Schema(description = "셀 내 게시글 위도 평균", example = "37.5665")
+    private double lat;
+
+    @Schema(description = "셀 내 게시글 경도 평균", example = "126.978")
+    private double lon;
+
+    @Schema(description = "셀 내 게시글 수", example = "42")
+    private long count;
+}
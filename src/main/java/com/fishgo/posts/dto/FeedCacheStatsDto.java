@@ -0,0 +1,33 @@
+package com.fishgo.posts.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Schema(description = "게시글 목록 캐시 통계 DTO")
+@Getter
+@AllArgsConstructor
+public class FeedCacheStatsDto {
+
+    @Schema(description = "로컬 캐시 적중 수")
+    private long localHits;
+
+    @Schema(description = "로컬 캐시 미스 수")
+    private long localMisses;
+
+    @Schema(description = "로컬 캐시 축출 수 (용량 초과 및 만료)")
+    private long localEvictions;
+
+    @Schema(description = "로컬 캐시 현재 항목 수")
+    private int localSize;
+
+    @Schema(description = "Redis 캐시 적중 수")
+    private long redisHits;
+
+    @Schema(description = "Redis 캐시 미스 수")
+    private long redisMisses;
+
+    @Schema(description = "무효화 메시지 수신 수")
+    private long invalidations;
+
+}
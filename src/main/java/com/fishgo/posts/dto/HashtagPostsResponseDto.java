@@ -0,0 +1,21 @@
+package com.fishgo.posts.dto;
+
+import com.fishgo.common.response.CursorResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Schema(description = "해시태그별 게시글 조회 응답 DTO")
+@Getter
+@AllArgsConstructor
+public class HashtagPostsResponseDto {
+
+    @Schema(description = "해시태그 이름", example = "붕어")
+    private String name;
+
+    @Schema(description = "해시태그가 달린 게시글 수", example = "128")
+    private long postCount;
+
+    @Schema(description = "게시글 목록")
+    private CursorResponse<PostListResponseDto> posts;
+}
@@ -0,0 +1,23 @@
+package com.fishgo.posts.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Schema(description = "조과 히트맵 셀 DTO")
+@Getter
+@AllArgsConstructor
+public class HeatmapCellDto {
+
+    @Schema(description = "셀 지오해시 (5자리)", example = "wydm9")
+    private String geohash;
+
+    @Schema(description = "셀 중심 위도", example = "37.5658")
+    private double lat;
+
+    @Schema(description = "셀 중심 경도", example = "126.9766")
+    private double lon;
+
+    @Schema(description = "셀 내 게시글 수", example = "17")
+    private long count;
+}
@@ -0,0 +1,22 @@
+package com.fishgo.posts.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Schema(description = "지도 클러스터 조회 응답 DTO")
+@Getter
+@AllArgsConstructor
+public class MapClusterResponseDto {
+
+    @Schema(description = "클러스터 지오해시 정밀도 (개별 핀포인트 응답이면 0)", example = "5")
+    private int precision;
+
+    @Schema(description = "클러스터 목록 (축소 상태)")
+    private List<ClusterDto> clusters;
+
+    @Schema(description = "개별 핀포인트 목록 (확대 상태)")
+    private List<PinpointDto> pinpoints;
+}
@@ -0,0 +1,19 @@
+package com.fishgo.posts.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Schema(description = "실시간 지도 핀포인트 변경 DTO")
+@Getter
+@AllArgsConstructor
+public class MapLiveEventDto {
+
+    @Schema(description = "뷰포트 안에 새로 생기거나 위치가 바뀐 핀포인트")
+    private List<PinpointDto> upserted;
+
+    @Schema(description = "뷰포트에서 사라진 게시글 ID")
+    private List<Long> removed;
+}
@@ -0,0 +1,31 @@
+package com.fishgo.posts.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "주변 조과 게시글 DTO")
+@Getter
+@AllArgsConstructor
+public class NearbyPostDto {
+
+    @Schema(description = "게시글 ID", example = "1")
+    private Long postId;
+
+    @Schema(description = "위도", example = "37.5665")
+    private Double lat;
+
+    @Schema(description = "경도", example = "126.978")
+    private Double lon;
+
+    @Schema(description = "어종", example = "붕어")
+    private String fishType;
+
+    @Schema(description = "작성일", example = "2025-01-01T12:00:00")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "기준 위치로부터의 거리(km)", example = "1.42")
+    private double distanceKm;
+}
@@ -0,0 +1,18 @@
+package com.fishgo.posts.dto;
+
+import com.fishgo.common.constants.ErrorCode;
+import com.fishgo.common.exception.CustomException;
+
+public enum NearbySort {
+    DISTANCE, // 가까운 순
+    RECENT;   // 최신순
+
+    public static NearbySort from(String value) {
+        for (NearbySort sort : values()) {
+            if (sort.name().equalsIgnoreCase(value)) {
+                return sort;
+            }
+        }
+        throw new CustomException(ErrorCode.BAD_REQUEST.getCode(), "sort는 distance 또는 recent만 가능합니다.");
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fishgo.common.util.ImagePathHelper;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
@@ -11,6 +12,7 @@ import java.time.LocalDateTime;
 @Schema(description = "게시글 응답 DTO")
 @Getter
 @Setter
+@NoArgsConstructor
 public class PostListResponseDto {
 
     private Long id;
@@ -24,6 +26,7 @@ public class PostListResponseDto {
 
     private String title;
 
+    @Schema(description = "게시글 내용 미리보기 (앞 100자)")
     private String contents;
 
     private String thumbnail;
@@ -34,11 +37,37 @@ public class PostListResponseDto {
 
     private LocalDateTime createdAt;
 
-    public void setUserProfileImg(String profileImg) {
+    @Schema(description = "로그인한 사용자의 좋아요 여부 (비로그인 시 false)")
+    private boolean likedByMe;
+
+    // JPQL 생성자 프로젝션용 (이미지 이름은 접근 경로로 변환)
+    public PostListResponseDto(Long id, Long userId, String userName, String profileImg, String title,
+                               String contents, String thumbnail, int likeCount, int viewCount,
+                               LocalDateTime createdAt) {
+        this.id = id;
+        this.userId = userId;
+        this.userName = userName;
         this.userProfileImg = ImagePathHelper.buildProfileImagePath(profileImg, userId);
+        this.title = title;
+        this.contents = contents;
+        this.thumbnail = ImagePathHelper.buildPostImagePath(thumbnail, id);
+        this.likeCount = likeCount;
+        this.viewCount = viewCount;
+        this.createdAt = createdAt;
     }
 
-    public void setThumbnail(String thumbnail) {
-        this.thumbnail = ImagePathHelper.buildPostImagePath(thumbnail, this.id);
+    // 캐시된 목록에 사용자별 값(likedByMe)을 채우기 전 복사용
+    public PostListResponseDto(PostListResponseDto source) {
+        this.id = source.id;
+        this.userId = source.userId;
+        this.userName = source.userName;
+        this.userProfileImg = source.userProfileImg;
+        this.title = source.title;
+        this.contents = source.contents;
+        this.thumbnail = source.thumbnail;
+        this.likeCount = source.likeCount;
+        this.viewCount = source.viewCount;
+        this.createdAt = source.createdAt;
+        this.likedByMe = source.likedByMe;
     }
 }
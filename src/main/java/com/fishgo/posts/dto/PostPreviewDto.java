@@ -0,0 +1,40 @@
+package com.fishgo.posts.dto;
+
+import com.fishgo.common.util.ImagePathHelper;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "지도 핀 미리보기 DTO")
+@Getter
+@NoArgsConstructor
+public class PostPreviewDto {
+
+    @Schema(description = "게시글 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "제목", example = "오늘 조과")
+    private String title;
+
+    @Schema(description = "대표 이미지 경로")
+    private String thumbnail;
+
+    @Schema(description = "어종", example = "붕어")
+    private String fishType;
+
+    @Schema(description = "크기(cm)", example = "32.5")
+    private Float fishSize;
+
+    @Schema(description = "작성자 이름", example = "낚시왕")
+    private String userName;
+
+    // JPQL 생성자 프로젝션용 (이미지 이름은 접근 경로로 변환)
+    public PostPreviewDto(Long id, String title, String thumbnail, String fishType, Float fishSize, String userName) {
+        this.id = id;
+        this.title = title;
+        this.thumbnail = ImagePathHelper.buildPostImagePath(thumbnail, id);
+        this.fishType = fishType;
+        this.fishSize = fishSize;
+        this.userName = userName;
+    }
+}
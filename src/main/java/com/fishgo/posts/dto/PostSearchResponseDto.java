@@ -0,0 +1,24 @@
+package com.fishgo.posts.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "게시글 검색 응답 DTO")
+@Getter
+@Setter
+public class PostSearchResponseDto extends PostListResponseDto {
+
+    @Schema(description = "검색어 주변 본문 (검색어는 <em> 태그로 강조, 나머지는 HTML 이스케이프)",
+            example = "오늘 <em>고등어</em> 4짜 잡았어요")
+    private String snippet;
+
+    public PostSearchResponseDto(Long id, Long userId, String userName, String profileImg, String title,
+                                 String contents, String thumbnail, int likeCount, int viewCount,
+                                 LocalDateTime createdAt, String snippet) {
+        super(id, userId, userName, profileImg, title, contents, thumbnail, likeCount, viewCount, createdAt);
+        this.snippet = snippet;
+    }
+}
@@ -0,0 +1,18 @@
+package com.fishgo.posts.dto;
+
+import com.fishgo.common.constants.ErrorCode;
+import com.fishgo.common.exception.CustomException;
+
+public enum PostSearchSort {
+    RELEVANCE, // 검색어 유사도 순
+    RECENT;    // 최신순
+
+    public static PostSearchSort from(String value) {
+        for (PostSearchSort sort : values()) {
+            if (sort.name().equalsIgnoreCase(value)) {
+                return sort;
+            }
+        }
+        throw new CustomException(ErrorCode.BAD_REQUEST.getCode(), "sort는 relevance 또는 recent만 가능합니다.");
+    }
+}
@@ -15,29 +15,6 @@ import java.util.stream.Collectors;
 @Mapper(componentModel = "spring")
 public interface PostsMapper {
 
-    // Posts -> PostResponseDto 변환
-    @Mapping(target = "id", source = "posts.id")
-    @Mapping(target = "userId", source = "posts.users.id")
-    @Mapping(target = "userName", source = "posts.users.profile.name")
-    @Mapping(target = "userProfileImg", source = "posts.users.profile.profileImg")
-    @Mapping(target = "title", source = "posts.title")
-    @Mapping(target = "contents", source = "posts.contents")
-    @Mapping(target = "thumbnail", ignore = true)
-    @Mapping(target = "likeCount", source = "posts.likeCount")
-    @Mapping(target = "viewCount", source = "posts.viewCount")
-    @Mapping(target = "createdAt", source = "posts.createdAt")
-    PostListResponseDto toPostListResponseDto(Posts posts);
-
-    @AfterMapping // 게시글의 첫번째 이미지를 썸네일로 지정
-    default void setThumbnail(Posts posts, @MappingTarget PostListResponseDto dto) {
-        dto.setThumbnail(
-                posts.getImages().stream()
-                        .findFirst()
-                        .map(PostImage::getImageName)
-                        .orElse(null)
-        );
-    }
-
     @Mapping(target = "userId", source = "post.users.id")
     @Mapping(target = "userProfileImg", source = "post.users.profile.profileImg")
     @Mapping(target = "userName", source = "post.users.profile.name")
@@ -93,6 +70,7 @@ public interface PostsMapper {
     @Mapping(target = "likes", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "active", ignore = true)
+    @Mapping(target = "geohash", ignore = true)
     Posts toEntity(PostsCreateRequestDto dto);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
@@ -113,6 +91,7 @@ public interface PostsMapper {
     @Mapping(target = "hashtag", ignore = true)
     @Mapping(target = "likes", ignore = true)
     @Mapping(target = "active", ignore = true)
+    @Mapping(target = "geohash", ignore = true)
     void updateFromDto(PostsUpdateRequestDto dto, @MappingTarget Posts entity);
 
 
@@ -0,0 +1,8 @@
+package com.fishgo.posts.dto.projection;
+
+public interface GeohashClusterProjection {
+    String getCell();
+    Long getCnt();
+    Double getSumLat();
+    Double getSumLon();
+}
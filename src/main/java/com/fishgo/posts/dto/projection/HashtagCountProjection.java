@@ -0,0 +1,6 @@
+package com.fishgo.posts.dto.projection;
+
+public interface HashtagCountProjection {
+    String getName();
+    Long getPostCount();
+}
@@ -0,0 +1,6 @@
+package com.fishgo.posts.dto.projection;
+
+public interface HashtagIdNameProjection {
+    Long getId();
+    String getName();
+}
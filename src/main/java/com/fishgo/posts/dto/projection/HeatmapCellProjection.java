@@ -0,0 +1,6 @@
+package com.fishgo.posts.dto.projection;
+
+public interface HeatmapCellProjection {
+    String getGeohash();
+    Long getCatchCount();
+}
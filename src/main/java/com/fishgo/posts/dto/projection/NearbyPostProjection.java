@@ -0,0 +1,12 @@
+package com.fishgo.posts.dto.projection;
+
+import java.time.LocalDateTime;
+
+public interface NearbyPostProjection {
+    Long getPostId();
+    Double getLat();
+    Double getLon();
+    String getFishType();
+    LocalDateTime getCreatedAt();
+    Double getDistanceKm();
+}
@@ -0,0 +1,7 @@
+package com.fishgo.posts.dto.projection;
+
+public interface PinpointProjection {
+    Long getPostId();
+    Double getLat();
+    Double getLon();
+}
@@ -0,0 +1,19 @@
+package com.fishgo.posts.dto.projection;
+
+import java.time.LocalDateTime;
+
+public interface PostSearchProjection {
+    Long getId();
+    Long getUserId();
+    String getName();
+    String getProfileImg();
+    String getTitle();
+    String getContents();
+    String getThumbnail();
+    Integer getLikeCount();
+    Integer getViewCount();
+    LocalDateTime getCreatedAt();
+
+    // 검색어 주변 본문 (하이라이트 스니펫 생성용)
+    String getSnippetSource();
+}
@@ -0,0 +1,10 @@
+package com.fishgo.posts.event;
+
+import java.util.List;
+
+/**
+ * 해시태그별 게시글 수 증감 이벤트
+ * - 게시글 작성/수정/삭제로 해시태그 사용 수가 바뀔 때 발행됩니다.
+ */
+public record HashtagPostCountChangedEvent(List<String> names, int delta) {
+}
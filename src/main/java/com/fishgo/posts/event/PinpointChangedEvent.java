@@ -0,0 +1,33 @@
+package com.fishgo.posts.event;
+
+import com.fishgo.posts.domain.Posts;
+
+import java.util.List;
+
+/**
+ * 지도 핀포인트 변경 이벤트
+ * - 게시글 작성/수정/삭제 및 회원 탈퇴/탈퇴 취소로 지도에 표시되는 게시글 위치가 바뀔 때 발행됩니다.
+ * - before/after 가 null 이면 해당 시점에 지도에 표시되지 않는 상태(비활성 또는 위치 없음)입니다.
+ */
+public record PinpointChangedEvent(List<Change> changes) {
+
+    public static PinpointChangedEvent of(Long postId, Pin before, Pin after) {
+        return new PinpointChangedEvent(List.of(new Change(postId, before, after)));
+    }
+
+    public record Change(Long postId, Pin before, Pin after) {
+    }
+
+    public record Pin(double lat, double lon) {
+
+        /**
+         * 게시글의 현재 지도 표시 상태 (비활성이거나 위치가 없으면 null)
+         */
+        public static Pin of(Posts post) {
+            if (!post.isActive() || post.getLat() == null || post.getLon() == null) {
+                return null;
+            }
+            return new Pin(post.getLat(), post.getLon());
+        }
+    }
+}
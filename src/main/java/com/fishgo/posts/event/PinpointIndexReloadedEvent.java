@@ -0,0 +1,8 @@
+package com.fishgo.posts.event;
+
+/**
+ * 핀포인트 색인 전체 재적재 완료 이벤트
+ * - 재적재는 누락된 PinpointSyncEvent 를 바로잡기 위한 것이므로, 핀포인트로 만든 캐시(지도 타일 등)도 모두 비워야 합니다.
+ */
+public record PinpointIndexReloadedEvent() {
+}
@@ -0,0 +1,11 @@
+package com.fishgo.posts.event;
+
+import java.util.List;
+
+/**
+ * 서버 간 동기화된 지도 핀포인트 변경 이벤트
+ * - 이 서버에서 커밋된 변경과 다른 서버에서 Redis 로 전달된 변경 모두에 대해 발행됩니다.
+ * - 서버마다 가진 인메모리 지도 데이터(핀포인트 색인 등)는 이 이벤트로 갱신해야 합니다.
+ */
+public record PinpointSyncEvent(List<PinpointChangedEvent.Change> changes) {
+}
@@ -0,0 +1,8 @@
+package com.fishgo.posts.event;
+
+public enum PostsChangeType {
+    CREATED,        // 게시글 작성
+    UPDATED,        // 게시글 수정
+    DELETED,        // 게시글 삭제(비활성화)
+    IMAGES_CHANGED  // 이미지 업로드/삭제
+}
@@ -0,0 +1,8 @@
+package com.fishgo.posts.event;
+
+/**
+ * 게시글 변경 이벤트
+ * - 게시글 작성, 수정, 삭제 및 이미지 변경 시 발행됩니다.
+ */
+public record PostsChangedEvent(Long postId, PostsChangeType type) {
+}
@@ -0,0 +1,8 @@
+package com.fishgo.posts.event;
+
+/**
+ * 사용자 게시글 일괄 활성/비활성 이벤트
+ * - 회원 탈퇴 요청 및 탈퇴 취소 시 발행됩니다.
+ */
+public record UserPostsActiveChangedEvent(Long userId, boolean active) {
+}
@@ -0,0 +1,57 @@
+package com.fishgo.posts.respository;
+
+import com.fishgo.posts.domain.CatchHeatmap;
+import com.fishgo.posts.dto.projection.HeatmapCellProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface CatchHeatmapRepository extends JpaRepository<CatchHeatmap, Long> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO catch_heatmap (geohash, fish_type, catch_month, catch_count)
+            VALUES (:geohash, :fishType, :month, :delta)
+            ON CONFLICT (geohash, fish_type, catch_month)
+            DO UPDATE SET catch_count = catch_heatmap.catch_count + EXCLUDED.catch_count
+            """, nativeQuery = true)
+    void addCount(@Param("geohash") String geohash, @Param("fishType") String fishType,
+                  @Param("month") int month, @Param("delta") long delta);
+
+    /**
+     * 사용자의 게시글 전체 활성/비활성 전환 전에 호출하여, 상태가 바뀔 게시글 수만큼 셀별 집계를 증감합니다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO catch_heatmap (geohash, fish_type, catch_month, catch_count)
+            SELECT LEFT(p.geohash, 5), COALESCE(p.fish_type, ''), CAST(EXTRACT(MONTH FROM p.created_at) AS integer),
+                   CASE WHEN :active THEN COUNT(*) ELSE -COUNT(*) END
+            FROM posts p
+            WHERE p.user_id = :userId
+              AND p.is_active <> :active
+              AND p.geohash IS NOT NULL
+              AND p.created_at IS NOT NULL
+            GROUP BY 1, 2, 3
+            ON CONFLICT (geohash, fish_type, catch_month)
+            DO UPDATE SET catch_count = catch_heatmap.catch_count + EXCLUDED.catch_count
+            """, nativeQuery = true)
+    void addCountByUserPosts(@Param("userId") Long userId, @Param("active") boolean active);
+
+    /**
+     * 지오해시 범위(:lows[i] <= geohash < :highs[i], 콤마 구분) 내 셀별 게시글 수 (어종/월 조건은 null 이면 전체)
+     */
+    @Query(value = """
+            SELECT h.geohash AS geohash, SUM(h.catch_count) AS catch_count
+            FROM UNNEST(string_to_array(:lows, ','), string_to_array(:highs, ',')) AS r(lo, hi)
+            JOIN catch_heatmap h ON h.geohash >= r.lo COLLATE "C" AND h.geohash < r.hi COLLATE "C"
+            WHERE (CAST(:fishType AS text) IS NULL OR h.fish_type = CAST(:fishType AS text))
+              AND (CAST(:month AS integer) IS NULL OR h.catch_month = CAST(:month AS integer))
+            GROUP BY h.geohash
+            HAVING SUM(h.catch_count) > 0
+            """, nativeQuery = true)
+    List<HeatmapCellProjection> findCells(@Param("lows") String lows, @Param("highs") String highs,
+                                          @Param("fishType") String fishType, @Param("month") Integer month);
+}
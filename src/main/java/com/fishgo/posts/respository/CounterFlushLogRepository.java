@@ -0,0 +1,73 @@
+package com.fishgo.posts.respository;
+
+import com.fishgo.posts.domain.CounterFlushLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CounterFlushLogRepository extends JpaRepository<CounterFlushLog, String> {
+
+    /**
+     * 게시글 좋아요 수 증감분을 한 번의 다중 행 UPDATE 로 반영합니다.
+     * 배치 기록 INSERT 와 같은 구문이므로, 이미 반영된 배치(batchId)면 아무것도 갱신하지 않습니다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            WITH logged AS (
+                INSERT INTO counter_flush_log (batch_id, counter, flushed_at)
+                VALUES (:batchId, :counter, now())
+                ON CONFLICT (batch_id) DO NOTHING
+                RETURNING batch_id
+            )
+            UPDATE posts p SET like_count = p.like_count + v.delta
+            FROM UNNEST(ARRAY[:ids], ARRAY[:deltas]) AS v(id, delta)
+            WHERE p.id = v.id AND EXISTS (SELECT 1 FROM logged)
+            """, nativeQuery = true)
+    int applyPostLikeDeltas(@Param("batchId") String batchId, @Param("counter") String counter,
+                            @Param("ids") List<Long> ids, @Param("deltas") List<Integer> deltas);
+
+    // 댓글 좋아요 수 증감분 반영 (applyPostLikeDeltas 와 동일)
+    @Transactional
+    @Modifying
+    @Query(value = """
+            WITH logged AS (
+                INSERT INTO counter_flush_log (batch_id, counter, flushed_at)
+                VALUES (:batchId, :counter, now())
+                ON CONFLICT (batch_id) DO NOTHING
+                RETURNING batch_id
+            )
+            UPDATE comment c SET like_count = c.like_count + v.delta
+            FROM UNNEST(ARRAY[:ids], ARRAY[:deltas]) AS v(id, delta)
+            WHERE c.id = v.id AND EXISTS (SELECT 1 FROM logged)
+            """, nativeQuery = true)
+    int applyCommentLikeDeltas(@Param("batchId") String batchId, @Param("counter") String counter,
+                               @Param("ids") List<Long> ids, @Param("deltas") List<Integer> deltas);
+
+    // 게시글 조회수 증가분 반영 (applyPostLikeDeltas 와 동일)
+    @Transactional
+    @Modifying
+    @Query(value = """
+            WITH logged AS (
+                INSERT INTO counter_flush_log (batch_id, counter, flushed_at)
+                VALUES (:batchId, :counter, now())
+                ON CONFLICT (batch_id) DO NOTHING
+                RETURNING batch_id
+            )
+            UPDATE posts p SET view_count = p.view_count + v.delta
+            FROM UNNEST(ARRAY[:ids], ARRAY[:deltas]) AS v(id, delta)
+            WHERE p.id = v.id AND EXISTS (SELECT 1 FROM logged)
+            """, nativeQuery = true)
+    int applyPostViewDeltas(@Param("batchId") String batchId, @Param("counter") String counter,
+                            @Param("ids") List<Long> ids, @Param("deltas") List<Integer> deltas);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM counter_flush_log WHERE flushed_at < :before", nativeQuery = true)
+    int deleteFlushedBefore(@Param("before") LocalDateTime before);
+}
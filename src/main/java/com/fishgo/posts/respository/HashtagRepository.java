@@ -1,8 +1,56 @@
 package com.fishgo.posts.respository;
 
 import com.fishgo.posts.domain.Hashtag;
+import com.fishgo.posts.dto.projection.HashtagCountProjection;
+import com.fishgo.posts.dto.projection.HashtagIdNameProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface HashtagRepository extends JpaRepository<Hashtag, Long> {
     Hashtag findByName(String name);
+
+    List<Hashtag> findAllByNameIn(Collection<String> names);
+
+    // 자동완성 색인 적재용
+    @Query("SELECT h.name AS name, h.postCount AS postCount FROM Hashtag h")
+    List<HashtagCountProjection> findAllNameAndPostCount();
+
+    /**
+     * 여러 해시태그를 한 번에 등록합니다.
+     * 이미 존재하거나 동시에 다른 트랜잭션이 등록한 이름은 건너뛰며, 실제로 등록된 행만 반환합니다.
+     */
+    @Transactional
+    @Query(value = """
+            INSERT INTO hashtag (name)
+            SELECT UNNEST(ARRAY[:names])
+            ON CONFLICT (name) DO NOTHING
+            RETURNING id, name
+            """, nativeQuery = true)
+    List<HashtagIdNameProjection> insertIgnoringConflicts(@Param("names") Collection<String> names);
+
+    @Modifying
+    @Query(value = "UPDATE hashtag SET post_count = post_count + :delta WHERE id IN (:ids)", nativeQuery = true)
+    void addPostCount(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
+
+    /**
+     * 사용자의 게시글 전체 활성/비활성 전환 전에 호출하여, 상태가 바뀔 게시글 수만큼 해시태그별 게시글 수를 증감합니다.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE hashtag h SET post_count = h.post_count + CASE WHEN :active THEN t.cnt ELSE -t.cnt END
+            FROM (SELECT ph.hashtag_id, COUNT(*) AS cnt
+                    FROM post_hashtag ph
+                    JOIN posts p ON p.id = ph.post_id
+                   WHERE p.user_id = :userId
+                     AND p.is_active <> :active
+                   GROUP BY ph.hashtag_id) t
+            WHERE h.id = t.hashtag_id
+            """, nativeQuery = true)
+    void addPostCountByUserPosts(@Param("userId") Long userId, @Param("active") boolean active);
 }
@@ -2,9 +2,15 @@ package com.fishgo.posts.respository;
 
 import com.fishgo.posts.domain.PostsLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface PostsLikeRepository extends JpaRepository<PostsLike, Long> {
@@ -15,6 +21,33 @@ public interface PostsLikeRepository extends JpaRepository<PostsLike, Long> {
     // “이미 좋아요가 눌린 상태인지?” 확인할 때 사용
     boolean existsByPostIdAndUserId(Long postId, Long userId);
 
+    /**
+     * 좋아요 이력을 추가합니다. 이미 있거나 게시글이 없으면 아무것도 하지 않습니다.
+     * (uk_posts_like_post_user 유니크 인덱스로 동시 요청도 한 건만 추가됨)
+     * @return 추가된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO posts_like (post_id, user_id, created_at)
+            SELECT :postId, :userId, now()
+            WHERE EXISTS (SELECT 1 FROM posts WHERE id = :postId)
+            ON CONFLICT (post_id, user_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIgnoringConflict(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    // 좋아요 이력 삭제 (삭제된 행 수 반환)
+    @Modifying
+    @Query(value = "DELETE FROM posts_like WHERE post_id = :postId AND user_id = :userId", nativeQuery = true)
+    int deleteByPostIdAndUserIdReturningCount(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    // 게시글에 좋아요를 누른 사용자 ID 전체 (좋아요 멤버십 적재용)
+    @Query("SELECT pl.user.id FROM PostsLike pl WHERE pl.post.id = :postId")
+    List<Long> findUserIdsByPostId(@Param("postId") Long postId);
+
+    // 목록 내 게시글 중 사용자가 좋아요를 누른 게시글 ID (좋아요 여부 일괄 조회)
+    @Query("SELECT pl.post.id FROM PostsLike pl WHERE pl.user.id = :userId AND pl.post.id IN :postIds")
+    Set<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
     // 게시글 삭제 전 해당 게시글의 좋아요 모두 삭제
     void deleteAllByPostId(Long postId);
 }
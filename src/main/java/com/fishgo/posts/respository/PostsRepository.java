@@ -2,28 +2,166 @@ package com.fishgo.posts.respository;
 
 import com.fishgo.posts.domain.Posts;
 import com.fishgo.posts.dto.PinpointDto;
+import com.fishgo.posts.dto.PostListResponseDto;
+import com.fishgo.posts.dto.PostPreviewDto;
 import com.fishgo.posts.dto.PostStatsDto;
+import com.fishgo.posts.dto.projection.GeohashClusterProjection;
+import com.fishgo.posts.dto.projection.NearbyPostProjection;
+import com.fishgo.posts.dto.projection.PinpointProjection;
+import com.fishgo.posts.dto.projection.PostSearchProjection;
 import com.fishgo.users.dto.MaximumFishDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 public interface PostsRepository extends JpaRepository<Posts, Long> {
 
-    @Query("""
-            SELECT p FROM Posts p WHERE
-                p.title LIKE %:query% OR
-                p.contents LIKE %:query%
-                AND p.active = true
+    /**
+     * 게시글 목록 응답에 필요한 컬럼만 한 번에 조회하는 프로젝션.
+     * 작성자 프로필은 조인으로, 썸네일(가장 먼저 등록된 이미지)은 스칼라 서브쿼리로 가져오므로
+     * 목록 크기와 관계없이 지연 로딩 쿼리가 발생하지 않습니다.
+     */
+    String POST_LIST_SELECT = """
+            SELECT NEW com.fishgo.posts.dto.PostListResponseDto(
+                p.id, u.id, pr.name, pr.profileImg, p.title,
+                SUBSTRING(p.contents, 1, 100),
+                (SELECT pi.imageName FROM PostImage pi
+                  WHERE pi.id = (SELECT MIN(pi2.id) FROM PostImage pi2 WHERE pi2.post = p)),
+                p.likeCount, p.viewCount, p.createdAt)
+            FROM Posts p
+            JOIN p.users u
+            LEFT JOIN u.profile pr
+            """;
+
+    @Query(value = POST_LIST_SELECT + """
+            WHERE p.active = true
+            """,
+            countQuery = "SELECT COUNT(p) FROM Posts p WHERE p.active = true")
+    Page<PostListResponseDto> findPostList(Pageable pageable);
+
+    /**
+     * 게시글 검색용 네이티브 쿼리 (제목/본문 ILIKE, pg_trgm GIN 인덱스 사용)
+     * :pattern 은 %, _ 가 이스케이프된 '%검색어%' 형태여야 합니다.
+     * snippet_source 는 본문에서 검색어 앞 30자부터 120자를 잘라낸 값입니다.
+     */
+    String POST_SEARCH_COLUMNS = """
+            SELECT p.id AS id, p.user_id AS user_id, pr.name AS name, pr.profile_img AS profile_img,
+                   p.title AS title, SUBSTRING(p.contents, 1, 100) AS contents,
+                   (SELECT pi.image_name FROM post_image pi
+                     WHERE pi.post_id = p.id ORDER BY pi.id LIMIT 1) AS thumbnail,
+                   p.like_count AS like_count, p.view_count AS view_count, p.created_at AS created_at,
+                   SUBSTRING(p.contents FROM GREATEST(STRPOS(LOWER(p.contents), LOWER(:query)) - 30, 1) FOR 120)
+                       AS snippet_source
+            """;
+
+    String POST_SEARCH_FILTER = """
+            LEFT JOIN profile pr ON pr.user_id = p.user_id
+            WHERE p.is_active = true
+              AND (p.title ILIKE :pattern OR p.contents ILIKE :pattern)
+            """;
+
+    String POST_SEARCH_SELECT = POST_SEARCH_COLUMNS + "FROM posts p\n" + POST_SEARCH_FILTER;
+
+    String POST_SEARCH_COUNT = """
+            SELECT COUNT(*) FROM posts p
+            WHERE p.is_active = true
+              AND (p.title ILIKE :pattern OR p.contents ILIKE :pattern)
+            """;
+
+    /**
+     * 3글자 미만 검색어는 trigram 을 만들 수 없어 trigram 인덱스를 쓰지 못하므로,
+     * 제목+본문의 2-gram 배열 GIN 인덱스(idx_posts_bigram)로 후보를 좁힌 뒤 ILIKE 로 다시 확인합니다.
+     * (전체 활성 게시글 대상, 검색어가 한 글자면 2-gram 이 없어 ILIKE 만으로 검색)
+     */
+    String BIGRAM_FILTER = """
+              AND fishgo_bigrams(COALESCE(p.title, '') || ' ' || COALESCE(p.contents, ''))
+                  @> fishgo_bigrams(CAST(:query AS text))
+            """;
+
+    String SHORT_POST_SEARCH_SELECT = POST_SEARCH_SELECT + BIGRAM_FILTER;
+
+    String SHORT_POST_SEARCH_COUNT = POST_SEARCH_COUNT + BIGRAM_FILTER;
+
+    // 유사도 순 (제목 일치에 가중치)
+    @Query(value = POST_SEARCH_SELECT + """
+            ORDER BY word_similarity(:query, p.title) * 2
+                     + word_similarity(:query, COALESCE(p.contents, '')) DESC,
+                     p.id DESC
+            """,
+            countQuery = POST_SEARCH_COUNT,
+            nativeQuery = true)
+    Page<PostSearchProjection> searchByRelevance(@Param("query") String query,
+                                                 @Param("pattern") String pattern,
+                                                 Pageable pageable);
+
+    // 최신순
+    @Query(value = POST_SEARCH_SELECT + """
+            ORDER BY p.id DESC
+            """,
+            countQuery = POST_SEARCH_COUNT,
+            nativeQuery = true)
+    Page<PostSearchProjection> searchByRecent(@Param("query") String query,
+                                              @Param("pattern") String pattern,
+                                              Pageable pageable);
+
+    // 짧은 검색어 유사도 순
+    @Query(value = SHORT_POST_SEARCH_SELECT + """
+            ORDER BY word_similarity(:query, p.title) * 2
+                     + word_similarity(:query, COALESCE(p.contents, '')) DESC,
+                     p.id DESC
+            """,
+            countQuery = SHORT_POST_SEARCH_COUNT,
+            nativeQuery = true)
+    Page<PostSearchProjection> searchShortByRelevance(@Param("query") String query,
+                                                      @Param("pattern") String pattern,
+                                                      Pageable pageable);
+
+    // 짧은 검색어 최신순
+    @Query(value = SHORT_POST_SEARCH_SELECT + """
+            ORDER BY p.id DESC
+            """,
+            countQuery = SHORT_POST_SEARCH_COUNT,
+            nativeQuery = true)
+    Page<PostSearchProjection> searchShortByRecent(@Param("query") String query,
+                                                   @Param("pattern") String pattern,
+                                                   Pageable pageable);
+
+    @Query(value = POST_LIST_SELECT + """
+            WHERE u.id = :userId
+            """,
+            countQuery = "SELECT COUNT(p) FROM Posts p WHERE p.users.id = :userId")
+    Page<PostListResponseDto> findPostListByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 해시태그별 게시글 첫 페이지 (Hashtag -> Posts 역방향 컬렉션 대신 사용, post_hashtag(hashtag_id, post_id DESC) 인덱스 사용)
+    @Query(POST_LIST_SELECT + """
+            JOIN p.hashtag h
+            WHERE h.id = :hashtagId
+              AND p.active = true
+            ORDER BY p.id DESC
             """)
-    Page<Posts> searchPosts(@Param("query") String query, Pageable pageable);
+    Slice<PostListResponseDto> findPostListByHashtag(@Param("hashtagId") Long hashtagId, Pageable pageable);
+
+    // 해시태그별 게시글 다음 페이지 (커서의 게시글 id 이후부터 조회)
+    @Query(POST_LIST_SELECT + """
+            JOIN p.hashtag h
+            WHERE h.id = :hashtagId
+              AND p.active = true
+              AND p.id < :lastId
+            ORDER BY p.id DESC
+            """)
+    Slice<PostListResponseDto> findPostListByHashtagAfter(@Param("hashtagId") Long hashtagId,
+                                                          @Param("lastId") Long lastId,
+                                                    Pageable pageable);
 
     @Query("""
             SELECT NEW com.fishgo.posts.dto.PostStatsDto(
@@ -32,18 +170,27 @@ public interface PostsRepository extends JpaRepository<Posts, Long> {
             """)
     PostStatsDto findPostStatsByUserId(@Param("userId") long userId);
 
-    @Query("""
-            SELECT NEW com.fishgo.posts.dto.PinpointDto(
-            p.id, p.lat, p.lon)
-            FROM Posts p
-            WHERE p.lat BETWEEN :minLat AND :maxLat
+    /**
+     * 지도 영역 내 핀포인트 조회 (최신순)
+     * 영역을 덮는 지오해시 범위(:lows[i] <= geohash < :highs[i], 콤마 구분)마다 부분 인덱스
+     * idx_posts_geohash_c_active(geohash COLLATE "C") INCLUDE (id, lat, lon) 를 범위 검색한 뒤 정확한 위경도로 거릅니다.
+     */
+    @Query(value = """
+            SELECT p.id AS post_id, p.lat AS lat, p.lon AS lon
+            FROM UNNEST(string_to_array(:lows, ','), string_to_array(:highs, ',')) AS r(lo, hi)
+            JOIN posts p ON p.geohash >= r.lo COLLATE "C" AND p.geohash < r.hi COLLATE "C"
+            WHERE p.is_active = true
+              AND p.geohash IS NOT NULL
+              AND p.lat BETWEEN :minLat AND :maxLat
               AND p.lon BETWEEN :minLon AND :maxLon
-              AND p.active = true
-           """)
-    Optional<List<PinpointDto>> findPostsInRange(
+            ORDER BY p.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<PinpointProjection> findPinpointsInGeohashRanges(
+            @Param("lows") String lows, @Param("highs") String highs,
             @Param("minLat") Double minLat, @Param("minLon") Double minLon,
             @Param("maxLat") Double maxLat, @Param("maxLon") Double maxLon,
-            Pageable pageable);
+            @Param("limit") int limit);
 
     @Query("""
             SELECT new com.fishgo.users.dto.MaximumFishDto(p.fishType, p.fishSize)
@@ -73,8 +220,6 @@ public interface PostsRepository extends JpaRepository<Posts, Long> {
 
     long countByUsers_Id(Long userId);
 
-    Page<Posts> findAllByUsers_Id(Long usersId, Pageable pageable);
-
     @Query("""
            SELECT NEW com.fishgo.posts.dto.PinpointDto(
            p.id, p.lat, p.lon)
@@ -85,11 +230,137 @@ public interface PostsRepository extends JpaRepository<Posts, Long> {
            """)
     Optional<List<PinpointDto>> findMyPinpoint(@Param("userId") Long userId);
 
+    /**
+     * 주변 조과 검색용 서브쿼리
+     * 지오해시 4자리 셀 목록(:cells, 콤마 구분)마다 idx_posts_geocell_created (LEFT(geohash, 4), created_at) 인덱스를
+     * 셀 일치 + 작성일 범위로 검색하고, 원을 감싸는 사각형으로 거른 뒤 하버사인 거리(km)를 계산합니다.
+     * (셀을 등호로 비교하므로 작성일 조건도 인덱스 검색 범위를 좁힘)
+     */
+    String NEARBY_SELECT = """
+            SELECT * FROM (
+                SELECT p.id AS post_id, p.lat AS lat, p.lon AS lon, p.fish_type AS fish_type,
+                       p.created_at AS created_at,
+                       6371.0 * 2 * ASIN(SQRT(
+                           POWER(SIN(RADIANS(p.lat - :lat) / 2), 2)
+                           + COS(RADIANS(:lat)) * COS(RADIANS(p.lat)) * POWER(SIN(RADIANS(p.lon - :lon) / 2), 2)
+                       )) AS distance_km
+                FROM posts p
+                WHERE LEFT(p.geohash, 4) = ANY(string_to_array(:cells, ','))
+                  AND p.is_active = true
+                  AND p.geohash IS NOT NULL
+                  AND p.created_at >= :since
+                  AND p.lat BETWEEN :minLat AND :maxLat
+                  AND p.lon BETWEEN :minLon AND :maxLon
+            ) t
+            WHERE t.distance_km <= :radiusKm
+            """;
+
+    // 주변 조과 (가까운 순, (거리, id) 커서 이후)
+    @Query(value = NEARBY_SELECT + """
+              AND (t.distance_km, t.post_id) > (:lastDistance, :lastId)
+            ORDER BY t.distance_km, t.post_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<NearbyPostProjection> findNearbyByDistance(
+            @Param("lat") double lat, @Param("lon") double lon, @Param("radiusKm") double radiusKm,
+            @Param("cells") String cells,
+            @Param("minLat") double minLat, @Param("minLon") double minLon,
+            @Param("maxLat") double maxLat, @Param("maxLon") double maxLon,
+            @Param("since") LocalDateTime since,
+            @Param("lastDistance") double lastDistance, @Param("lastId") long lastId,
+            @Param("limit") int limit);
+
+    // 주변 조과 (최신순, (작성일, id) 커서 이후)
+    @Query(value = NEARBY_SELECT + """
+              AND (t.created_at, t.post_id) < (:lastCreatedAt, :lastId)
+            ORDER BY t.created_at DESC, t.post_id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<NearbyPostProjection> findNearbyByRecent(
+            @Param("lat") double lat, @Param("lon") double lon, @Param("radiusKm") double radiusKm,
+            @Param("cells") String cells,
+            @Param("minLat") double minLat, @Param("minLon") double minLon,
+            @Param("maxLat") double maxLat, @Param("maxLon") double maxLon,
+            @Param("since") LocalDateTime since,
+            @Param("lastCreatedAt") LocalDateTime lastCreatedAt, @Param("lastId") long lastId,
+            @Param("limit") int limit);
+
+    // 지도 핀포인트 색인 적재용
+    @Query("""
+           SELECT NEW com.fishgo.posts.dto.PinpointDto(
+           p.id, p.lat, p.lon)
+           FROM Posts p
+           WHERE p.active = true
+           AND p.lat IS NOT NULL
+           AND p.lon IS NOT NULL
+           """)
+    List<PinpointDto> findAllActivePinpoints();
+
+    // 지도 클러스터 재집계 (지오해시 앞 precision 자리 셀 단위)
+    @Query(value = """
+            SELECT LEFT(p.geohash, :precision) AS cell, COUNT(*) AS cnt,
+                   SUM(p.lat) AS sum_lat, SUM(p.lon) AS sum_lon
+            FROM posts p
+            WHERE p.is_active = true
+              AND p.geohash IS NOT NULL
+            GROUP BY 1
+            """, nativeQuery = true)
+    List<GeohashClusterProjection> aggregateClusters(@Param("precision") int precision);
+
+    // 사용자 게시글 일괄 활성/비활성 전환 시 지도 표시 상태가 바뀔 게시글 (전환 전에 조회)
+    @Query("""
+           SELECT NEW com.fishgo.posts.dto.PinpointDto(
+           p.id, p.lat, p.lon)
+           FROM Posts p
+           WHERE p.users.id = :userId
+           AND p.active <> :active
+           AND p.lat IS NOT NULL
+           AND p.lon IS NOT NULL
+           """)
+    List<PinpointDto> findPinpointsToggledByUserActive(@Param("userId") Long userId, @Param("active") boolean active);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("UPDATE Posts p SET p.active = :isActive WHERE p.users.id = :userId")
     void updatePostsIsActiveByUserId(Long userId, boolean isActive);
 
-    Page<Posts> findAllByActive(boolean isActive, Pageable pageable);
+    // 좋아요 수 증감 (엔티티를 읽지 않고 DB 에서 원자적으로 갱신)
+    @Modifying
+    @Query(value = "UPDATE posts SET like_count = like_count + :delta WHERE id = :postId", nativeQuery = true)
+    void addLikeCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    // 조회수 증감 (버퍼를 쓸 수 없을 때만 사용)
+    @Modifying
+    @Query(value = "UPDATE posts SET view_count = view_count + :delta WHERE id = :postId", nativeQuery = true)
+    void addViewCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    // 지도 핀 미리보기 (여러 게시글을 한 번에, 엔티티 로딩 없이 조회)
+    @Query("""
+            SELECT NEW com.fishgo.posts.dto.PostPreviewDto(
+                p.id, p.title,
+                (SELECT pi.imageName FROM PostImage pi
+                  WHERE pi.id = (SELECT MIN(pi2.id) FROM PostImage pi2 WHERE pi2.post = p)),
+                p.fishType, p.fishSize, pr.name)
+            FROM Posts p
+            JOIN p.users u
+            LEFT JOIN u.profile pr
+            WHERE p.id IN :ids AND p.active = true
+            """)
+    List<PostPreviewDto> findPreviewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 피드 첫 페이지 (COUNT 쿼리 없이 Slice로 조회)
+    @Query(POST_LIST_SELECT + """
+            WHERE p.active = true
+            ORDER BY p.id DESC
+            """)
+    Slice<PostListResponseDto> findFeed(Pageable pageable);
+
+    // 피드 다음 페이지 (커서의 게시글 id 이후부터 조회)
+    @Query(POST_LIST_SELECT + """
+            WHERE p.active = true AND p.id < :lastId
+            ORDER BY p.id DESC
+            """)
+    Slice<PostListResponseDto> findFeedAfter(@Param("lastId") Long lastId, Pageable pageable);
+
     // 물고기 갯수
     long countByUsersIdAndFishTypeIsNotNull(Long userId);
 
@@ -0,0 +1,92 @@
+package com.fishgo.posts.service;
+
+import com.fishgo.common.constants.ErrorCode;
+import com.fishgo.common.exception.CustomException;
+import com.fishgo.common.util.GeoHashHelper;
+import com.fishgo.posts.domain.CatchHeatmap;
+import com.fishgo.posts.domain.Posts;
+import com.fishgo.posts.dto.HeatmapCellDto;
+import com.fishgo.posts.respository.CatchHeatmapRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 조과 히트맵 (지오해시 5자리 셀 x 어종 x 월 집계)
+ */
+@Service
+@RequiredArgsConstructor
+public class CatchHeatmapService {
+
+    // 영역을 덮는 셀 범위 최대 개수
+    private static final int MAX_COVER_CELLS = 64;
+
+    private final CatchHeatmapRepository catchHeatmapRepository;
+
+    /**
+     * 게시글의 집계 대상 셀 (비활성이거나 위치가 없으면 null)
+     */
+    public record CatchKey(String geohash, String fishType, int month) {
+
+        public static CatchKey of(Posts post) {
+            if (!post.isActive() || post.getLat() == null || post.getLon() == null || post.getCreatedAt() == null) {
+                return null;
+            }
+            return new CatchKey(
+                    GeoHashHelper.encode(post.getLat(), post.getLon(), CatchHeatmap.PRECISION),
+                    post.getFishType() == null ? "" : post.getFishType(),
+                    post.getCreatedAt().getMonthValue());
+        }
+    }
+
+    /**
+     * 게시글 변경 전후의 집계 셀을 반영합니다. (같으면 아무것도 하지 않음)
+     */
+    @Transactional
+    public void move(CatchKey before, CatchKey after) {
+        if (Objects.equals(before, after)) return;
+
+        if (before != null) {
+            catchHeatmapRepository.addCount(before.geohash(), before.fishType(), before.month(), -1);
+        }
+        if (after != null) {
+            catchHeatmapRepository.addCount(after.geohash(), after.fishType(), after.month(), 1);
+        }
+    }
+
+    /**
+     * 사용자 게시글 일괄 활성/비활성 전환에 따른 집계 반영 (전환 쿼리보다 먼저 호출해야 함)
+     */
+    @Transactional
+    public void applyUserPostsActiveChange(Long userId, boolean active) {
+        catchHeatmapRepository.addCountByUserPosts(userId, active);
+    }
+
+    /**
+     * 영역 내 히트맵 셀 조회
+     * @param fishType 어종 (null 이면 전체, 빈 문자열이면 어종 미입력 게시글)
+     * @param month 월 1 ~ 12 (null 이면 전체)
+     */
+    public List<HeatmapCellDto> getHeatmap(double minLat, double minLon, double maxLat, double maxLon,
+                                           String fishType, Integer month) {
+        if (month != null && (month < 1 || month > 12)) {
+            throw new CustomException(ErrorCode.BAD_REQUEST.getCode(), "month는 1 ~ 12 사이여야 합니다.");
+        }
+
+        List<GeoHashHelper.Range> ranges = GeoHashHelper.coverRanges(
+                minLat, minLon, maxLat, maxLon, MAX_COVER_CELLS, CatchHeatmap.PRECISION);
+        String lows = ranges.stream().map(GeoHashHelper.Range::low).collect(Collectors.joining(","));
+        String highs = ranges.stream().map(GeoHashHelper.Range::high).collect(Collectors.joining(","));
+
+        return catchHeatmapRepository.findCells(lows, highs, fishType, month).stream()
+                .map(cell -> {
+                    double[] center = GeoHashHelper.decodeCenter(cell.getGeohash());
+                    return new HeatmapCellDto(cell.getGeohash(), center[0], center[1], cell.getCatchCount());
+                })
+                .toList();
+    }
+}
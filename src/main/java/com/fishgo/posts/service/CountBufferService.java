@@ -0,0 +1,265 @@
+package com.fishgo.posts.service;
+
+import com.fishgo.common.service.RedisLockService;
+import com.fishgo.posts.comments.repository.CommentRepository;
+import com.fishgo.posts.respository.CounterFlushLogRepository;
+import com.fishgo.posts.respository.PostsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 게시글/댓글 카운터 쓰기 지연(write-behind) 버퍼
+ * - 버퍼 대상 카운터는 증감분을 DB 대신 Redis 해시(count:{카운터}:pending)에 누적하고,
+ *   주기적으로 카운터별 다중 행 UPDATE 한 번으로 DB 에 반영합니다. (인기 게시글의 행 잠금 경합 제거)
+ *   조회수는 항상, 좋아요 수는 posts.like.write-behind=true 일 때만 버퍼를 사용합니다.
+ * - 반영 시 pending 해시를 flushing 해시로 옮기고 배치 ID 를 붙이며, DB 반영과 배치 기록(counter_flush_log)을
+ *   한 구문으로 처리합니다. 반영 도중 서버가 재시작되면 다음 주기에 같은 배치 ID 로 재시도하므로 중복 반영되지 않습니다.
+ * - 조회 시에는 DB 값에 아직 반영되지 않은 증감분(pending + flushing)을 더해 보여 줍니다.
+ * - 버퍼에는 호출한 트랜잭션이 커밋된 뒤에만 쌓으므로, 롤백된 좋아요의 증감분이 남지 않습니다.
+ * - 버퍼를 사용하지 않는 카운터는 증감분을 같은 트랜잭션에서 바로 DB 에 반영합니다.
+ *   (UPDATE ... SET like_count = like_count + n 으로 증감하므로 동시 요청에도 갱신이 유실되지 않음)
+ * - 좋아요 서비스는 엔티티를 읽지 않고 이력 INSERT/DELETE 결과 행 수로 중복 여부를 판단한 뒤 이 버퍼에 증감분을 넘깁니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CountBufferService {
+
+    public enum Counter {
+        POST_LIKE("post-like", false),
+        COMMENT_LIKE("comment-like", false),
+        POST_VIEW("post-view", true);
+
+        private final String key;
+        // 설정과 관계없이 항상 버퍼 사용
+        private final boolean alwaysBuffered;
+
+        Counter(String key, boolean alwaysBuffered) {
+            this.key = key;
+            this.alwaysBuffered = alwaysBuffered;
+        }
+    }
+
+    private static final Duration LOCK_TTL = Duration.ofMinutes(1);
+
+    // 배치 반영 기록 보관 기간
+    private static final Duration FLUSH_LOG_RETENTION = Duration.ofDays(7);
+
+    /**
+     * 반영할 배치 준비 (KEYS: pending, flushing, batch / ARGV: 새 배치 ID)
+     * 이전에 끝나지 않은 flushing 해시가 있으면 그 배치 ID 를, 없으면 pending 을 flushing 으로 옮기고 새 배치 ID 를 반환합니다.
+     */
+    private static final RedisScript<String> PREPARE_BATCH_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                local batch = redis.call('GET', KEYS[3])
+                if not batch then
+                    redis.call('SET', KEYS[3], ARGV[1])
+                    batch = ARGV[1]
+                end
+                return batch
+            end
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return false
+            end
+            redis.call('RENAME', KEYS[1], KEYS[2])
+            redis.call('SET', KEYS[3], ARGV[1])
+            return ARGV[1]
+            """, String.class);
+
+    @Value("${posts.like.write-behind:false}")
+    private boolean writeBehind;
+
+    private final StringRedisTemplate redisTemplate;
+    private final PostsRepository postsRepository;
+    private final CommentRepository commentRepository;
+    private final CounterFlushLogRepository counterFlushLogRepository;
+    private final RedisLockService redisLockService;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 카운터를 증감합니다.
+     * 버퍼 대상이면 트랜잭션 커밋 후 버퍼에 쌓고(트랜잭션 밖이면 바로), 아니면 현재 트랜잭션에서 DB 에 반영합니다.
+     */
+    public void add(Counter counter, long id, int delta) {
+        if (!isBuffered(counter)) {
+            applyDirect(counter, id, delta);
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            buffer(counter, id, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                buffer(counter, id, delta);
+            }
+        });
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 증감분
+     */
+    public int getPending(Counter counter, long id) {
+        return getPending(counter, List.of(id)).getOrDefault(id, 0);
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 증감분 (증감분이 없는 ID 는 결과에서 빠짐)
+     */
+    public Map<Long, Integer> getPending(Counter counter, Collection<Long> ids) {
+        if (!isBuffered(counter) || ids.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> idList = List.copyOf(ids);
+        String[] fields = idList.stream().map(String::valueOf).toArray(String[]::new);
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                conn.hMGet(pendingKey(counter), fields);
+                conn.hMGet(flushingKey(counter), fields);
+                return null;
+            });
+
+            Map<Long, Integer> pending = new HashMap<>();
+            for (Object result : results) {
+                List<?> values = (List<?>) result;
+                for (int i = 0; i < idList.size(); i++) {
+                    Object value = values.get(i);
+                    if (value != null) {
+                        pending.merge(idList.get(i), Integer.parseInt(value.toString()), Integer::sum);
+                    }
+                }
+            }
+            return pending;
+        } catch (RuntimeException e) {
+            log.warn("Count buffer read failed for {}: {}", counter, e.getMessage());
+            return Map.of();
+        }
+    }
+
+    // 쓰기 지연 모드를 끈 뒤에도 남은 증감분은 반영되도록 항상 실행
+    @Scheduled(fixedDelayString = "${posts.count-buffer.flush-interval-ms:5000}")
+    public void flush() {
+        for (Counter counter : Counter.values()) {
+            try {
+                flush(counter);
+            } catch (RuntimeException e) {
+                log.warn("Count buffer flush failed for {}, will retry: {}", counter, e.getMessage());
+            }
+        }
+    }
+
+    @Scheduled(cron = "0 0 5 * * *")
+    public void purgeFlushLog() {
+        int deleted = counterFlushLogRepository.deleteFlushedBefore(LocalDateTime.now().minus(FLUSH_LOG_RETENTION));
+        if (deleted > 0) {
+            log.info("Counter flush log purged: {} rows", deleted);
+        }
+    }
+
+    private void buffer(Counter counter, long id, int delta) {
+        try {
+            redisTemplate.opsForHash().increment(pendingKey(counter), String.valueOf(id), delta);
+        } catch (RedisConnectionFailureException e) {
+            // 명령이 전달되지 않았으므로 DB 에 바로 반영 (호출한 트랜잭션은 이미 끝났으므로 새 트랜잭션 사용)
+            log.warn("Count buffer unavailable, writing {} directly: {}", counter, e.getMessage());
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            transaction.executeWithoutResult(status -> applyDirect(counter, id, delta));
+        } catch (RuntimeException e) {
+            // 시간 초과 등은 Redis 에 이미 반영되었을 수 있으므로 중복 반영하지 않고 버림
+            log.error("Count buffer write failed for {} {} (delta {}), skipped: {}", counter, id, delta, e.getMessage());
+        }
+    }
+
+    private void flush(Counter counter) {
+        String lockKey = "count:{" + counter.key + "}:lock";
+        String lockToken = redisLockService.tryLock(lockKey, LOCK_TTL);
+        if (lockToken == null) {
+            return;
+        }
+
+        try {
+            String flushingKey = flushingKey(counter);
+            String batchKey = "count:{" + counter.key + "}:batch";
+            String batchId = redisTemplate.execute(PREPARE_BATCH_SCRIPT,
+                    List.of(pendingKey(counter), flushingKey, batchKey), UUID.randomUUID().toString());
+            if (batchId == null) {
+                return;
+            }
+
+            List<Long> ids = new ArrayList<>();
+            List<Integer> deltas = new ArrayList<>();
+            redisTemplate.<String, String>opsForHash().entries(flushingKey).forEach((field, value) -> {
+                int delta = Integer.parseInt(value);
+                if (delta != 0) {
+                    ids.add(Long.parseLong(field));
+                    deltas.add(delta);
+                }
+            });
+
+            if (!ids.isEmpty()) {
+                applyBatch(counter, batchId, ids, deltas);
+            }
+
+            // DB 반영 후 삭제 전에 중단되면 다음 주기에 같은 배치 ID 로 재시도 (배치 기록으로 무시됨)
+            redisTemplate.delete(List.of(flushingKey, batchKey));
+        } finally {
+            redisLockService.unlock(lockKey, lockToken);
+        }
+    }
+
+    private void applyBatch(Counter counter, String batchId, List<Long> ids, List<Integer> deltas) {
+        switch (counter) {
+            case POST_LIKE -> counterFlushLogRepository.applyPostLikeDeltas(batchId, counter.key, ids, deltas);
+            case COMMENT_LIKE -> counterFlushLogRepository.applyCommentLikeDeltas(batchId, counter.key, ids, deltas);
+            case POST_VIEW -> counterFlushLogRepository.applyPostViewDeltas(batchId, counter.key, ids, deltas);
+        }
+    }
+
+    private void applyDirect(Counter counter, long id, int delta) {
+        switch (counter) {
+            case POST_LIKE -> postsRepository.addLikeCount(id, delta);
+            case COMMENT_LIKE -> commentRepository.addLikeCount(id, delta);
+            case POST_VIEW -> postsRepository.addViewCount(id, delta);
+        }
+    }
+
+    private boolean isBuffered(Counter counter) {
+        return counter.alwaysBuffered || writeBehind;
+    }
+
+    // 클러스터 환경에서도 같은 슬롯에 놓이도록 해시 태그({카운터}) 사용
+    static String pendingKey(Counter counter) {
+        return "count:{" + counter.key + "}:pending";
+    }
+
+    static String keyPrefix(Counter counter) {
+        return "count:{" + counter.key + "}:";
+    }
+
+    private static String flushingKey(Counter counter) {
+        return "count:{" + counter.key + "}:flushing";
+    }
+}
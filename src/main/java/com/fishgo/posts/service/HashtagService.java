@@ -0,0 +1,139 @@
+package com.fishgo.posts.service;
+
+import com.fishgo.common.util.LruCache;
+import com.fishgo.posts.domain.Hashtag;
+import com.fishgo.posts.dto.projection.HashtagIdNameProjection;
+import com.fishgo.posts.event.HashtagPostCountChangedEvent;
+import com.fishgo.posts.respository.HashtagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 해시태그 이름 -> 엔티티 변환
+ * - 자주 쓰이는 해시태그는 이름 -> ID 캐시에서 바로 찾습니다.
+ * - 캐시에 없는 이름은 IN 조회 한 번, 신규 이름은 다중 행 INSERT ... ON CONFLICT 한 번으로 처리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class HashtagService {
+
+    private static final int CACHE_MAX_ENTRIES = 4096;
+
+    private final HashtagRepository hashtagRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 커밋된 해시태그만 적재 (해시태그는 삭제되지 않으므로 만료 없음)
+    private final LruCache<String, Long> idCache = new LruCache<>(CACHE_MAX_ENTRIES);
+
+    /**
+     * 해시태그 이름 목록을 해시태그 엔티티로 변환합니다. 없는 해시태그는 새로 등록합니다.
+     * 캐시에서 찾은 해시태그는 ID와 이름만 채운 엔티티로 반환되며, 연관관계 저장 용도로만 사용해야 합니다.
+     * @param names 해시태그 이름 목록 (중복/빈 값은 무시)
+     * @return 해시태그 엔티티 Set
+     */
+    @Transactional
+    public Set<Hashtag> resolveHashtags(List<String> names) {
+        if (names == null || names.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        // Hashtag 는 equals 를 재정의하지 않으므로 같은 해시태그가 두 번 담기지 않도록 ID 기준으로 모음
+        Map<Long, Hashtag> resolved = new LinkedHashMap<>();
+        Set<String> missing = new LinkedHashSet<>();
+        for (String name : new LinkedHashSet<>(names)) {
+            if (name == null || name.isBlank()) continue;
+
+            Long cachedId = idCache.get(name);
+            if (cachedId != null) {
+                resolved.putIfAbsent(cachedId, Hashtag.builder().id(cachedId).name(name).build());
+            } else {
+                missing.add(name);
+            }
+        }
+        if (missing.isEmpty()) {
+            return new HashSet<>(resolved.values());
+        }
+
+        // 1) 기존 해시태그 일괄 조회
+        for (Hashtag hashtag : hashtagRepository.findAllByNameIn(missing)) {
+            idCache.put(hashtag.getName(), hashtag.getId());
+            resolved.putIfAbsent(hashtag.getId(), hashtag);
+            missing.remove(hashtag.getName());
+        }
+        if (missing.isEmpty()) {
+            return new HashSet<>(resolved.values());
+        }
+
+        // 2) 신규 해시태그 일괄 등록 (동시에 같은 이름이 등록되면 충돌 행은 건너뜀)
+        Map<String, Long> inserted = new HashMap<>();
+        for (HashtagIdNameProjection row : hashtagRepository.insertIgnoringConflicts(missing)) {
+            inserted.put(row.getName(), row.getId());
+            resolved.putIfAbsent(row.getId(), Hashtag.builder().id(row.getId()).name(row.getName()).build());
+            missing.remove(row.getName());
+        }
+        cacheAfterCommit(inserted);
+
+        // 3) 다른 트랜잭션이 먼저 등록해 충돌한 이름은 다시 조회
+        if (!missing.isEmpty()) {
+            for (Hashtag hashtag : hashtagRepository.findAllByNameIn(missing)) {
+                idCache.put(hashtag.getName(), hashtag.getId());
+                resolved.putIfAbsent(hashtag.getId(), hashtag);
+                missing.remove(hashtag.getName());
+            }
+            if (!missing.isEmpty()) {
+                throw new IllegalStateException("해시태그 등록에 실패했습니다: " + missing);
+            }
+        }
+
+        return new HashSet<>(resolved.values());
+    }
+
+    /**
+     * 해시태그별 게시글 수 증감
+     * @param hashtags 대상 해시태그
+     * @param delta 증감 값
+     */
+    @Transactional
+    public void addPostCount(Collection<Hashtag> hashtags, int delta) {
+        if (hashtags.isEmpty()) return;
+
+        Set<Long> ids = hashtags.stream().map(Hashtag::getId).collect(Collectors.toSet());
+        hashtagRepository.addPostCount(ids, delta);
+
+        List<String> names = hashtags.stream().map(Hashtag::getName).toList();
+        eventPublisher.publishEvent(new HashtagPostCountChangedEvent(names, delta));
+    }
+
+    /**
+     * 사용자 게시글 일괄 활성/비활성 전환에 따른 해시태그별 게시글 수 반영 (전환 쿼리보다 먼저 호출해야 함)
+     * @param userId 사용자 아이디
+     * @param active 전환될 활성 상태
+     */
+    @Transactional
+    public void applyUserPostsActiveChange(Long userId, boolean active) {
+        hashtagRepository.addPostCountByUserPosts(userId, active);
+    }
+
+    // 롤백되면 존재하지 않는 ID가 되므로 커밋 이후에만 캐시에 적재
+    private void cacheAfterCommit(Map<String, Long> inserted) {
+        if (inserted.isEmpty()) return;
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            inserted.forEach(idCache::put);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                inserted.forEach(idCache::put);
+            }
+        });
+    }
+}
@@ -0,0 +1,263 @@
+package com.fishgo.posts.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.fishgo.posts.comments.repository.CommentLikeRepository;
+import com.fishgo.posts.respository.PostsLikeRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 게시글/댓글별 좋아요 누른 사용자 집합 (인메모리 Roaring 비트맵)
+ * - DB(posts_like, comment_like)가 원본이며, 메모리 결과는 조회 화면의 좋아요 여부 표시에만 사용합니다.
+ *   (좋아요/취소 가능 여부는 DB INSERT/DELETE 결과 행 수로 판단)
+ * - 적재되지 않은 대상은 DB 에서 해당 사용자만 조회하고, 좋아요 사용자 ID 전체 적재는 전용 스레드 하나에서
+ *   대상별로 한 번만 수행합니다. (요청 스레드에서 전체 목록을 읽지 않음)
+ * - 좋아요/취소가 커밋되면 이 서버의 집합을 바로 갱신하고, Redis pub/sub 으로 다른 서버에도 전달합니다.
+ * - 적재 중 도착한 변경은 모아 두었다가 적재 결과에 다시 반영하므로, 적재 도중의 좋아요도 누락되지 않습니다.
+ * - 메시지 유실에 대비해 적재한 집합은 일정 시간이 지나면 버리고 다시 적재합니다.
+ * - 목록 한 페이지를 그릴 때 행마다 확인하므로 네트워크 왕복이 없는 힙 메모리에 두고,
+ *   적재 시점의 비트맵 크기 합계로 메모리 사용량을 제한합니다. (잠금 없는 동시 캐시)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LikeMembershipService implements MessageListener {
+
+    public static final String CHANNEL = "like:membership";
+
+    public enum Target { POST, COMMENT }
+
+    // 적재한 비트맵 크기 합계 상한 (적재 이후 늘어난 크기는 다음 적재 때 반영)
+    private static final long MAX_CACHED_BYTES = 64L * 1024 * 1024;
+    private static final Duration CACHE_TTL = Duration.ofMinutes(10);
+    private static final String DELIMITER = "|";
+
+    // 적재 대기열 크기 (가득 차면 이번 적재는 건너뛰고 다음 조회 때 다시 요청)
+    private static final int LOAD_QUEUE_SIZE = 1000;
+
+    private final String origin = UUID.randomUUID().toString();
+
+    private final PostsLikeRepository postsLikeRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // Roaring64Bitmap 은 스레드 안전하지 않으므로 사용할 때마다 비트맵 객체로 동기화
+    private final Cache<TargetKey, Roaring64Bitmap> likers = Caffeine.newBuilder()
+            .maximumWeight(MAX_CACHED_BYTES)
+            .weigher((TargetKey key, Roaring64Bitmap set) -> weigh(set))
+            .expireAfterWrite(CACHE_TTL)
+            .build();
+
+    // 적재 중인 대상별로 적재 도중 도착한 변경 목록
+    private final Map<TargetKey, List<Change>> loading = new ConcurrentHashMap<>();
+
+    private final ExecutorService loader = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(LOAD_QUEUE_SIZE),
+            runnable -> {
+                Thread thread = new Thread(runnable, "like-membership-loader");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        loader.shutdownNow();
+    }
+
+    /**
+     * 사용자가 대상에 좋아요를 눌렀는지 (표시용)
+     * 적재된 대상은 메모리에서 판단하고, 아니면 DB 에서 해당 사용자만 확인한 뒤 백그라운드 적재를 요청합니다.
+     */
+    public boolean isLiked(Target target, long targetId, long userId) {
+        TargetKey key = new TargetKey(target, targetId);
+        Roaring64Bitmap cached = likers.getIfPresent(key);
+        if (cached != null) {
+            return contains(cached, userId);
+        }
+
+        requestLoad(key);
+        return findLiked(target, userId, List.of(targetId)).contains(targetId);
+    }
+
+    /**
+     * 대상 목록 중 사용자가 좋아요를 누른 대상 ID
+     * 적재되어 있는 대상은 메모리에서, 나머지는 IN 조회 한 번으로 판단합니다. (목록 조회로 대상 전체를 적재하지 않음)
+     */
+    public Set<Long> findLiked(Target target, long userId, Collection<Long> targetIds) {
+        Set<Long> liked = new HashSet<>();
+        List<Long> misses = new ArrayList<>();
+
+        for (Long targetId : targetIds) {
+            Roaring64Bitmap cached = likers.getIfPresent(new TargetKey(target, targetId));
+            if (cached == null) {
+                misses.add(targetId);
+            } else if (contains(cached, userId)) {
+                liked.add(targetId);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            liked.addAll(switch (target) {
+                case POST -> postsLikeRepository.findLikedPostIds(userId, misses);
+                case COMMENT -> commentLikeRepository.findLikedCommentIds(userId, misses);
+            });
+        }
+        return liked;
+    }
+
+    /**
+     * 좋아요/취소를 기록합니다. 트랜잭션 안이면 커밋 후에 반영됩니다.
+     */
+    public void record(Target target, long targetId, long userId, boolean liked) {
+        Change change = new Change(new TargetKey(target, targetId), userId, liked);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(change);
+            }
+        });
+    }
+
+    /**
+     * 다른 서버에서 커밋된 좋아요/취소 반영 (자신이 보낸 메시지는 무시)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|");
+        try {
+            if (origin.equals(parts[0])) {
+                return;
+            }
+            apply(new Change(
+                    new TargetKey(Target.valueOf(parts[1]), Long.parseLong(parts[2])),
+                    Long.parseLong(parts[3]),
+                    "1".equals(parts[4])));
+        } catch (RuntimeException e) {
+            log.warn("Invalid like membership message: {}", e.getMessage());
+        }
+    }
+
+    private void publish(Change change) {
+        apply(change);
+
+        try {
+            String message = String.join(DELIMITER, origin, change.key().target().name(),
+                    String.valueOf(change.key().targetId()), String.valueOf(change.userId()), change.liked() ? "1" : "0");
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (RuntimeException e) {
+            // 다른 서버는 적재한 집합이 만료될 때 DB 에서 다시 적재하며 따라잡음
+            log.warn("Like membership publish failed: {}", e.getMessage());
+        }
+    }
+
+    // 대상별로 한 번만 적재 (이미 적재되었거나 적재 중이면 무시)
+    private void requestLoad(TargetKey key) {
+        if (likers.getIfPresent(key) != null) {
+            return;
+        }
+        List<Change> buffer = new ArrayList<>();
+        if (loading.putIfAbsent(key, buffer) != null) {
+            return;
+        }
+
+        try {
+            loader.execute(() -> load(key, buffer));
+        } catch (RejectedExecutionException e) {
+            loading.remove(key);
+        }
+    }
+
+    private void load(TargetKey key, List<Change> buffer) {
+        try {
+            List<Long> userIds = switch (key.target()) {
+                case POST -> postsLikeRepository.findUserIdsByPostId(key.targetId());
+                case COMMENT -> commentLikeRepository.findUserIdsByCommentId(key.targetId());
+            };
+            Roaring64Bitmap loaded = new Roaring64Bitmap();
+            userIds.forEach(loaded::addLong);
+
+            synchronized (buffer) {
+                buffer.forEach(change -> change.applyTo(loaded));
+                likers.put(key, loaded);
+                loading.remove(key);
+            }
+        } catch (RuntimeException e) {
+            loading.remove(key);
+            log.warn("Like membership load failed for {}: {}", key, e.getMessage());
+        }
+    }
+
+    private static int weigh(Roaring64Bitmap set) {
+        synchronized (set) {
+            return (int) Math.min(Integer.MAX_VALUE, set.getLongSizeInBytes());
+        }
+    }
+
+    private static boolean contains(Roaring64Bitmap set, long userId) {
+        synchronized (set) {
+            return set.contains(userId);
+        }
+    }
+
+    private void apply(Change change) {
+        List<Change> buffer = loading.get(change.key());
+        if (buffer != null) {
+            synchronized (buffer) {
+                // 적재가 끝나기 전이면 적재 결과에 반영되도록 보관
+                if (loading.get(change.key()) == buffer) {
+                    buffer.add(change);
+                    return;
+                }
+            }
+        }
+
+        Roaring64Bitmap cached = likers.getIfPresent(change.key());
+        if (cached != null) {
+            change.applyTo(cached);
+        }
+    }
+
+    private record TargetKey(Target target, long targetId) {
+    }
+
+    private record Change(TargetKey key, long userId, boolean liked) {
+
+        void applyTo(Roaring64Bitmap set) {
+            synchronized (set) {
+                if (liked) {
+                    set.addLong(userId);
+                } else {
+                    set.removeLong(userId);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.fishgo.posts.service;
+
+import com.fishgo.common.service.RedisLockService;
+import com.fishgo.common.util.GeoHashHelper;
+import com.fishgo.posts.dto.ClusterDto;
+import com.fishgo.posts.dto.MapClusterResponseDto;
+import com.fishgo.posts.dto.PinpointDto;
+import com.fishgo.posts.dto.projection.GeohashClusterProjection;
+import com.fishgo.posts.event.PinpointChangedEvent;
+import com.fishgo.posts.respository.PostsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 지도 클러스터 (줌 레벨별 지오해시 셀 집계)
+ * - 정밀도별 Redis 해시(map:{cluster}:{precision})에 셀마다 게시글 수와 위경도 합계를 보관합니다.
+ *   필드: {셀}:c (게시글 수), {셀}:y (위도 합), {셀}:x (경도 합)
+ * - 게시글 위치/활성 상태가 바뀌면 커밋 후 해당 셀의 값만 증감합니다.
+ * - 최초 기동 시 및 매일 새벽 DB 에서 다시 집계해 부동소수 오차와 누락분을 바로잡습니다.
+ *   집계 중에 들어온 증감은 별도 목록에 함께 기록했다가 새 값으로 교체한 직후 다시 반영합니다.
+ *   (DB 조회 직전에 커밋되었으나 증감이 조회 이후에 도착한 변경은 드물게 두 번 반영될 수 있으며, 다음 집계에서 바로잡힘)
+ * - 여러 키를 한 스크립트에서 다루므로 모든 키는 같은 해시 태그({cluster})를 사용합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MapClusterService {
+
+    public static final int MIN_PRECISION = 1;
+    public static final int MAX_PRECISION = 7;
+
+    // 이 줌 이상이면 클러스터 대신 개별 핀포인트 반환
+    public static final int PIN_ZOOM = 16;
+
+    private static final String KEY_PREFIX = "map:{cluster}:";
+    private static final String BUILT_KEY = "map:{cluster}:built";
+    private static final String LOCK_KEY = "map:{cluster}:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(5);
+
+    // 한 번에 조회할 최대 셀 수 (초과 시 정밀도를 낮춤)
+    private static final int MAX_VIEWPORT_CELLS = 512;
+    private static final int MAX_PINPOINTS = 500;
+
+    // 집계 중인 정밀도 (값이 있는 동안 해당 정밀도의 증감을 JOURNAL_KEY 에도 기록)
+    private static final String REBUILDING_KEY = "map:{cluster}:rebuilding";
+    private static final String JOURNAL_KEY = "map:{cluster}:journal";
+
+    /**
+     * 핀포인트 1건의 셀 값 증감
+     * KEYS: 집계 중 정밀도, 증감 기록 목록, 정밀도 1 ~ MAX_PRECISION 해시
+     * ARGV: 게시글 수 증감, 위도 증감, 경도 증감, 정밀도 1 ~ MAX_PRECISION 셀
+     */
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            local rebuilding = tonumber(redis.call('GET', KEYS[1]))
+            for p = 1, #KEYS - 2 do
+                local key = KEYS[p + 2]
+                local cell = ARGV[p + 3]
+                redis.call('HINCRBY', key, cell .. ':c', ARGV[1])
+                redis.call('HINCRBYFLOAT', key, cell .. ':y', ARGV[2])
+                redis.call('HINCRBYFLOAT', key, cell .. ':x', ARGV[3])
+                if rebuilding == p then
+                    redis.call('RPUSH', KEYS[2], cell, ARGV[1], ARGV[2], ARGV[3])
+                end
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 임시 키를 정밀도 해시로 교체한 뒤 집계 중 기록된 증감을 다시 반영하고 기록을 끝냄
+     * KEYS: 집계 중 정밀도, 증감 기록 목록, 임시 해시, 정밀도 해시
+     */
+    private static final RedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[3]) == 1 then
+                redis.call('RENAME', KEYS[3], KEYS[4])
+            else
+                redis.call('DEL', KEYS[4])
+            end
+            local entries = redis.call('LRANGE', KEYS[2], 0, -1)
+            for i = 1, #entries, 4 do
+                local cell = entries[i]
+                redis.call('HINCRBY', KEYS[4], cell .. ':c', entries[i + 1])
+                redis.call('HINCRBYFLOAT', KEYS[4], cell .. ':y', entries[i + 2])
+                redis.call('HINCRBYFLOAT', KEYS[4], cell .. ':x', entries[i + 3])
+            end
+            redis.call('DEL', KEYS[2], KEYS[1])
+            return #entries / 4
+            """, Long.class);
+
+    private static final List<String> INCREMENT_KEYS;
+
+    static {
+        List<String> keys = new ArrayList<>();
+        keys.add(REBUILDING_KEY);
+        keys.add(JOURNAL_KEY);
+        for (int precision = MIN_PRECISION; precision <= MAX_PRECISION; precision++) {
+            keys.add(KEY_PREFIX + precision);
+        }
+        INCREMENT_KEYS = List.copyOf(keys);
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisLockService redisLockService;
+    private final PostsRepository postsRepository;
+    private final MapService mapService;
+
+    /**
+     * 지도 영역 클러스터 조회
+     * @param zoom 지도 줌 레벨 (웹 메르카토르 기준 0 ~ 21)
+     * @return 축소 상태면 클러스터 목록, 확대 상태면 개별 핀포인트 목록
+     */
+    public MapClusterResponseDto getClusters(double minLat, double minLon, double maxLat, double maxLon, int zoom) {
+        if (zoom >= PIN_ZOOM) {
+            List<PinpointDto> pinpoints = mapService.getPinpoints(minLat, minLon, maxLat, maxLon, MAX_PINPOINTS);
+            return new MapClusterResponseDto(0, List.of(), pinpoints);
+        }
+
+        int precision = precisionForZoom(zoom);
+        TreeSet<String> cells = GeoHashHelper.coverCells(minLat, minLon, maxLat, maxLon, precision, MAX_VIEWPORT_CELLS);
+        while (cells == null && precision > MIN_PRECISION) {
+            precision--;
+            cells = GeoHashHelper.coverCells(minLat, minLon, maxLat, maxLon, precision, MAX_VIEWPORT_CELLS);
+        }
+        if (cells == null) {
+            cells = new TreeSet<>();
+        }
+
+        List<Object> fields = new ArrayList<>(cells.size() * 3);
+        for (String cell : cells) {
+            fields.add(cell + ":c");
+            fields.add(cell + ":y");
+            fields.add(cell + ":x");
+        }
+        List<Object> values = redisTemplate.opsForHash().multiGet(KEY_PREFIX + precision, fields);
+
+        List<ClusterDto> clusters = new ArrayList<>();
+        int i = 0;
+        for (String cell : cells) {
+            long count = parseLong(values.get(i));
+            if (count > 0) {
+                double sumLat = parseDouble(values.get(i + 1));
+                double sumLon = parseDouble(values.get(i + 2));
+                clusters.add(new ClusterDto(cell, sumLat / count, sumLon / count, count));
+            }
+            i += 3;
+        }
+
+        return new MapClusterResponseDto(precision, clusters, List.of());
+    }
+
+    /**
+     * 줌 레벨 -> 지오해시 정밀도
+     * (정밀도 1 셀은 약 5000km, 7 셀은 약 150m)
+     */
+    static int precisionForZoom(int zoom) {
+        if (zoom <= 2) return 1;
+        if (zoom <= 4) return 2;
+        if (zoom <= 6) return 3;
+        if (zoom <= 9) return 4;
+        if (zoom <= 11) return 5;
+        if (zoom <= 13) return 6;
+        return MAX_PRECISION;
+    }
+
+    @TransactionalEventListener
+    public void handlePinpointChangedEvent(PinpointChangedEvent event) {
+        try {
+            for (PinpointChangedEvent.Change change : event.changes()) {
+                if (change.before() != null) {
+                    increment(change.before(), -1);
+                }
+                if (change.after() != null) {
+                    increment(change.after(), 1);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Map cluster update failed, will be corrected on next rebuild: {}", e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(BUILT_KEY))) {
+                rebuild();
+            }
+        } catch (RuntimeException e) {
+            log.error("Map cluster initialization failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB 에서 전체 셀을 다시 집계합니다. (여러 서버 중 잠금을 얻은 한 곳에서만 실행)
+     * 임시 키에 적재한 뒤 RENAME 으로 교체하므로 조회 중인 요청은 이전 값 또는 새 값만 보게 됩니다.
+     * 정밀도마다 DB 조회 직전부터 교체 시점까지의 증감을 기록해 두었다가 교체 직후 새 값에 다시 반영합니다.
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void rebuild() {
+        String token = redisLockService.tryLock(LOCK_KEY, LOCK_TTL);
+        if (token == null) {
+            return;
+        }
+
+        try {
+            for (int precision = MIN_PRECISION; precision <= MAX_PRECISION; precision++) {
+                String key = KEY_PREFIX + precision;
+                String tempKey = key + ":rebuild";
+
+                // 이전 집계가 중단되며 남은 기록은 버리고, DB 조회 이후 커밋될 증감부터 기록
+                redisTemplate.delete(List.of(JOURNAL_KEY, tempKey));
+                redisTemplate.opsForValue().set(REBUILDING_KEY, String.valueOf(precision), LOCK_TTL);
+
+                List<GeohashClusterProjection> rows = postsRepository.aggregateClusters(precision);
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    StringRedisConnection conn = (StringRedisConnection) connection;
+                    for (GeohashClusterProjection row : rows) {
+                        conn.hSet(tempKey, row.getCell() + ":c", String.valueOf(row.getCnt()));
+                        conn.hSet(tempKey, row.getCell() + ":y", String.valueOf(row.getSumLat()));
+                        conn.hSet(tempKey, row.getCell() + ":x", String.valueOf(row.getSumLon()));
+                    }
+                    return null;
+                });
+                redisTemplate.execute(SWAP_SCRIPT, List.of(REBUILDING_KEY, JOURNAL_KEY, tempKey, key));
+            }
+            redisTemplate.opsForValue().set(BUILT_KEY, "1");
+            log.info("Map clusters rebuilt");
+        } finally {
+            redisTemplate.delete(REBUILDING_KEY);
+            redisLockService.unlock(LOCK_KEY, token);
+        }
+    }
+
+    private void increment(PinpointChangedEvent.Pin pin, int delta) {
+        String geohash = GeoHashHelper.encode(pin.lat(), pin.lon(), MAX_PRECISION);
+
+        Object[] args = new Object[3 + MAX_PRECISION];
+        args[0] = String.valueOf(delta);
+        args[1] = String.valueOf(pin.lat() * delta);
+        args[2] = String.valueOf(pin.lon() * delta);
+        for (int precision = MIN_PRECISION; precision <= MAX_PRECISION; precision++) {
+            args[2 + precision] = geohash.substring(0, precision);
+        }
+        redisTemplate.execute(INCREMENT_SCRIPT, INCREMENT_KEYS, args);
+    }
+
+    private static long parseLong(Object value) {
+        return value == null ? 0 : Long.parseLong(value.toString());
+    }
+
+    private static double parseDouble(Object value) {
+        return value == null ? 0 : Double.parseDouble(value.toString());
+    }
+}
@@ -0,0 +1,225 @@
+package com.fishgo.posts.service;
+
+import com.fishgo.common.constants.ErrorCode;
+import com.fishgo.common.exception.CustomException;
+import com.fishgo.common.util.ViewportIndex;
+import com.fishgo.posts.dto.MapLiveEventDto;
+import com.fishgo.posts.dto.PinpointDto;
+import com.fishgo.posts.event.PinpointChangedEvent;
+import com.fishgo.posts.event.PinpointSyncEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 지도 뷰포트 실시간 핀포인트 전송 (SSE)
+ * - 구독 시 등록한 뷰포트를 ViewportIndex 에 두고, PinpointSyncEvent 의 변경 위치로 받을 구독자를 찾습니다.
+ * - 다른 서버의 변경도 PinpointSyncRelay 를 통해 PinpointSyncEvent 로 들어오므로 모든 서버의 구독자에게 전달됩니다.
+ * - 구독자마다 크기가 정해진 전송 대기열을 두고 전송 스레드 풀에서 구독자별로 순서대로 보냅니다.
+ *   느린 클라이언트는 자신의 대기열만 채우며, 대기열이 가득 차면 연결을 종료해 클라이언트가 다시 구독하고
+ *   지도를 새로 조회하게 합니다. (변경분을 말없이 버리지 않음)
+ */
+@Service
+@Slf4j
+public class MapLiveService {
+
+    // 서버 한 대당 최대 구독 수
+    private static final int MAX_SUBSCRIPTIONS = 5000;
+
+    // 구독 연결 유지 시간 (만료 시 클라이언트가 재연결)
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+    // 구독자별 전송 대기열 크기 (가득 차면 연결 종료)
+    private static final int SUBSCRIBER_QUEUE_SIZE = 64;
+
+    // 전송 스레드 수 (응답이 멈춘 클라이언트에 쓰는 동안 한 스레드가 묶이므로 여러 개 사용)
+    private static final int SENDER_THREADS = 8;
+
+    private final ViewportIndex<String> viewportIndex = new ViewportIndex<>();
+    private final Map<String, Subscriber> subscribers = new ConcurrentHashMap<>();
+
+    // 구독 슬롯 (구독 시 먼저 확보하고, 구독이 목록에서 제거될 때 한 번만 반납)
+    private final Semaphore slots = new Semaphore(MAX_SUBSCRIPTIONS);
+
+    private final ExecutorService senders = Executors.newFixedThreadPool(SENDER_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "map-live-sender");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 뷰포트를 구독합니다. 첫 이벤트(subscribed)로 구독 ID 를 전달하며, 이후 뷰포트 변경 시 이 ID 를 사용합니다.
+     */
+    public SseEmitter subscribe(double minLat, double minLon, double maxLat, double maxLon) {
+        validateViewport(minLat, minLon, maxLat, maxLon);
+        if (!slots.tryAcquire()) {
+            throw new CustomException(ErrorCode.SERVICE_UNAVAILABLE.getCode(), "실시간 지도 구독자가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        String subscriptionId = UUID.randomUUID().toString();
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        emitter.onCompletion(() -> unsubscribe(subscriptionId));
+        emitter.onTimeout(() -> unsubscribe(subscriptionId));
+        emitter.onError(e -> unsubscribe(subscriptionId));
+
+        Subscriber subscriber = new Subscriber(subscriptionId, emitter);
+        subscribers.put(subscriptionId, subscriber);
+        viewportIndex.put(subscriptionId, minLat, minLon, maxLat, maxLon);
+
+        // 새 대기열의 첫 이벤트이므로 버려지지 않음
+        enqueue(subscriber, SseEmitter.event().name("subscribed").data(subscriptionId));
+        return emitter;
+    }
+
+    /**
+     * 구독 중인 뷰포트를 변경합니다. (지도 이동 시 재연결 없이 사용)
+     */
+    public void updateViewport(String subscriptionId, double minLat, double minLon, double maxLat, double maxLon) {
+        validateViewport(minLat, minLon, maxLat, maxLon);
+        if (!subscribers.containsKey(subscriptionId)) {
+            throw new CustomException(ErrorCode.NOT_FOUND.getCode(), "구독 정보가 없습니다. 다시 구독해 주세요.");
+        }
+        viewportIndex.put(subscriptionId, minLat, minLon, maxLat, maxLon);
+    }
+
+    // 색인과 타일 캐시가 갱신된 뒤에 전송 (대상 계산은 메모리 조회이고, 전송은 대기열에 넣기만 함)
+    @Order(2)
+    @EventListener
+    public void handlePinpointSyncEvent(PinpointSyncEvent event) {
+        if (subscribers.isEmpty()) return;
+        dispatch(event.changes());
+    }
+
+    // 프록시나 로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트 전송
+    @Scheduled(fixedRate = 25 * 1000)
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers.values()) {
+            enqueue(subscriber, SseEmitter.event().comment("ping"));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+        subscribers.values().forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private void dispatch(List<PinpointChangedEvent.Change> changes) {
+        Map<String, List<PinpointDto>> upserted = new HashMap<>();
+        Map<String, List<Long>> removed = new HashMap<>();
+
+        for (PinpointChangedEvent.Change change : changes) {
+            PinpointChangedEvent.Pin after = change.after();
+            PinpointChangedEvent.Pin before = change.before();
+
+            Set<String> afterSubscribers = after == null ? Set.of() : viewportIndex.find(after.lat(), after.lon());
+            for (String subscriptionId : afterSubscribers) {
+                upserted.computeIfAbsent(subscriptionId, k -> new ArrayList<>())
+                        .add(new PinpointDto(change.postId(), after.lat(), after.lon()));
+            }
+
+            // 이전 위치가 보이던 뷰포트 중 이후 위치가 보이지 않는 곳에는 삭제로 전달
+            if (before != null) {
+                for (String subscriptionId : viewportIndex.find(before.lat(), before.lon())) {
+                    if (!afterSubscribers.contains(subscriptionId)) {
+                        removed.computeIfAbsent(subscriptionId, k -> new ArrayList<>()).add(change.postId());
+                    }
+                }
+            }
+        }
+
+        Set<String> targets = new HashSet<>(upserted.keySet());
+        targets.addAll(removed.keySet());
+        for (String subscriptionId : targets) {
+            Subscriber subscriber = subscribers.get(subscriptionId);
+            if (subscriber == null) continue;
+
+            MapLiveEventDto data = new MapLiveEventDto(
+                    upserted.getOrDefault(subscriptionId, List.of()),
+                    removed.getOrDefault(subscriptionId, List.of()));
+            enqueue(subscriber, SseEmitter.event().name("pins").data(data));
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.queue.offer(event)) {
+            // 따라오지 못하는 클라이언트: 변경분을 버리는 대신 연결을 끊어 재구독(전체 재조회)하게 함
+            log.info("Map live subscriber {} fell behind, closing", subscriber.id);
+            unsubscribe(subscriber.id);
+            subscriber.emitter.complete();
+            return;
+        }
+        schedule(subscriber);
+    }
+
+    // 구독자별로 한 번에 하나의 전송 작업만 실행해 순서를 보장
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.sending.compareAndSet(false, true)) return;
+        try {
+            senders.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.sending.set(false);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        SseEmitter.SseEventBuilder event;
+        while ((event = subscriber.queue.poll()) != null) {
+            if (!send(subscriber, event)) return;
+        }
+        subscriber.sending.set(false);
+
+        // 플래그를 내리는 사이에 들어온 이벤트 처리
+        if (!subscriber.queue.isEmpty()) {
+            schedule(subscriber);
+        }
+    }
+
+    private boolean send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊긴 클라이언트
+            unsubscribe(subscriber.id);
+            subscriber.queue.clear();
+            subscriber.emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    // 완료/만료/오류 콜백과 전송 실패 경로에서 여러 번 호출될 수 있으므로 실제로 제거한 경우에만 슬롯 반납
+    private void unsubscribe(String subscriptionId) {
+        if (subscribers.remove(subscriptionId) != null) {
+            viewportIndex.remove(subscriptionId);
+            slots.release();
+        }
+    }
+
+    private void validateViewport(double minLat, double minLon, double maxLat, double maxLon) {
+        if (minLat < -90 || maxLat > 90 || minLon < -180 || maxLon > 180 || minLat > maxLat || minLon > maxLon) {
+            throw new CustomException(ErrorCode.BAD_REQUEST.getCode(), "뷰포트 위경도 범위가 올바르지 않습니다.");
+        }
+    }
+
+    private static final class Subscriber {
+        private final String id;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(SUBSCRIBER_QUEUE_SIZE);
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        Subscriber(String id, SseEmitter emitter) {
+            this.id = id;
+            this.emitter = emitter;
+        }
+    }
+}
@@ -1,25 +1,143 @@
 package com.fishgo.posts.service;
 
+import com.fishgo.common.constants.ErrorCode;
+import com.fishgo.common.exception.CustomException;
+import com.fishgo.common.response.CursorResponse;
+import com.fishgo.common.util.CursorHelper;
+import com.fishgo.common.util.GeoHashHelper;
+import com.fishgo.posts.dto.NearbyPostDto;
+import com.fishgo.posts.dto.NearbySort;
 import com.fishgo.posts.dto.PinpointDto;
+import com.fishgo.posts.dto.projection.NearbyPostProjection;
 import com.fishgo.posts.respository.PostsRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class MapService {
 
+    // 영역을 덮는 지오해시 셀 최대 개수 (많을수록 영역 밖 후보가 줄지만 범위 검색 횟수가 늘어남)
+    private static final int MAX_COVER_CELLS = 64;
+
+    // 한 번에 반환하는 핀포인트 최대 개수
+    private static final int MAX_LIMIT = 1000;
+
+    // 주변 조과 검색 제한
+    private static final double MAX_NEARBY_RADIUS_KM = 50;
+    private static final int MAX_NEARBY_DAYS = 365;
+    private static final int MAX_NEARBY_SIZE = 100;
+
+    // 주변 조과 검색 셀 정밀도 (idx_posts_geocell_created 의 LEFT(geohash, 4) 와 일치해야 함, 약 39km x 20km)
+    private static final int NEARBY_CELL_PRECISION = 4;
+
+    // 반경 50km 사각형을 덮는 정밀도 4 셀 최대 개수 (적도 부근 약 20개, 극지방에서도 약 2000개 이하)
+    private static final int MAX_NEARBY_CELLS = 4096;
+
+    // 위도 1도당 거리(km)
+    private static final double KM_PER_DEGREE = 111.32;
+
+    // 최신순 첫 페이지 커서 (모든 게시글보다 뒤)
+    private static final LocalDateTime FIRST_PAGE_CREATED_AT = LocalDateTime.of(9999, 12, 31, 0, 0);
+
     private final PostsRepository postsRepository;
+    private final PinpointIndexService pinpointIndexService;
 
+    /**
+     * 지도 영역 내 핀포인트 조회 (최신 게시글 순)
+     * 인메모리 색인이 준비되어 있으면 DB 를 조회하지 않습니다.
+     * 조회 개수는 1 ~ MAX_LIMIT 로 보정합니다.
+     */
     public List<PinpointDto> getPinpoints(Double minLat, Double minLon, Double maxLat, Double maxLon, Integer limit) {
+        return findPinpoints(minLat, minLon, maxLat, maxLon, Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
 
-        Pageable pageable = PageRequest.of(0, limit);
+    // 개수 제한 없이 조회 (지도 타일처럼 서버에서 개수를 정하는 경우)
+    List<PinpointDto> findPinpoints(double minLat, double minLon, double maxLat, double maxLon, int size) {
+        if (pinpointIndexService.isReady()) {
+            return pinpointIndexService.getPinpoints(minLat, minLon, maxLat, maxLon, size);
+        }
 
-        return postsRepository.findPostsInRange(minLat, minLon, maxLat, maxLon, pageable).orElse(null);
+        List<GeoHashHelper.Range> ranges = GeoHashHelper.coverRanges(minLat, minLon, maxLat, maxLon, MAX_COVER_CELLS);
+        String lows = ranges.stream().map(GeoHashHelper.Range::low).collect(Collectors.joining(","));
+        String highs = ranges.stream().map(GeoHashHelper.Range::high).collect(Collectors.joining(","));
+
+        return postsRepository.findPinpointsInGeohashRanges(lows, highs, minLat, minLon, maxLat, maxLon, size)
+                .stream()
+                .map(row -> new PinpointDto(row.getPostId(), row.getLat(), row.getLon()))
+                .toList();
     }
 
+    /**
+     * 기준 위치 반경 내 최근 N일 조과 조회 (커서 기반)
+     * 반경을 감싸는 사각형을 지오해시 셀로 덮어 (셀, 작성일) 인덱스로 후보를 좁힌 뒤, 정확한 거리는 DB 에서 계산합니다.
+     * @param sort 가까운 순(거리, id) 또는 최신순(작성일, id)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     */
+    public CursorResponse<NearbyPostDto> getNearby(double lat, double lon, double radiusKm, int days,
+                                                   NearbySort sort, String cursor, int size) {
+        if (lat < -90 || lat > 90 || lon < -180 || lon > 180) {
+            throw new CustomException(ErrorCode.BAD_REQUEST.getCode(), "위경도 범위가 올바르지 않습니다.");
+        }
+        if (radiusKm <= 0 || radiusKm > MAX_NEARBY_RADIUS_KM) {
+            throw new CustomException(ErrorCode.BAD_REQUEST.getCode(), "반경은 0km 초과 " + (int) MAX_NEARBY_RADIUS_KM + "km 이하만 가능합니다.");
+        }
+        if (days <= 0 || days > MAX_NEARBY_DAYS) {
+            throw new CustomException(ErrorCode.BAD_REQUEST.getCode(), "기간은 1일 이상 " + MAX_NEARBY_DAYS + "일 이하만 가능합니다.");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_NEARBY_SIZE));
+
+        // 반경을 감싸는 사각형 (경도 1도의 거리는 위도에 따라 줄어듦)
+        double dLat = radiusKm / KM_PER_DEGREE;
+        double dLon = radiusKm / (KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(lat)), 0.01));
+        double minLat = Math.max(lat - dLat, -90);
+        double maxLat = Math.min(lat + dLat, 90);
+        double minLon = Math.max(lon - dLon, -180);
+        double maxLon = Math.min(lon + dLon, 180);
+
+        TreeSet<String> cellSet = GeoHashHelper.coverCells(minLat, minLon, maxLat, maxLon,
+                NEARBY_CELL_PRECISION, MAX_NEARBY_CELLS);
+        if (cellSet == null) {
+            throw new CustomException(ErrorCode.BAD_REQUEST.getCode(), "검색 영역이 너무 넓습니다.");
+        }
+        String cells = String.join(",", cellSet);
+        LocalDateTime since = LocalDateTime.now().minusDays(days);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<NearbyPostProjection> rows;
+        if (sort == NearbySort.DISTANCE) {
+            CursorHelper.DistanceCursor after = cursor == null ? null : CursorHelper.decodeDistance(cursor);
+            rows = postsRepository.findNearbyByDistance(lat, lon, radiusKm, cells,
+                    minLat, minLon, maxLat, maxLon, since,
+                    after == null ? -1 : after.distance(), after == null ? 0 : after.id(), pageSize + 1);
+        } else {
+            CursorHelper.Cursor after = cursor == null ? null : CursorHelper.decode(cursor);
+            rows = postsRepository.findNearbyByRecent(lat, lon, radiusKm, cells,
+                    minLat, minLon, maxLat, maxLon, since,
+                    after == null ? FIRST_PAGE_CREATED_AT : after.createdAt(), after == null ? Long.MAX_VALUE : after.id(),
+                    pageSize + 1);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<NearbyPostDto> content = rows.stream()
+                .limit(pageSize)
+                .map(row -> new NearbyPostDto(row.getPostId(), row.getLat(), row.getLon(), row.getFishType(),
+                        row.getCreatedAt(), row.getDistanceKm()))
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            NearbyPostDto last = content.get(content.size() - 1);
+            nextCursor = sort == NearbySort.DISTANCE
+                    ? CursorHelper.encodeDistance(last.getDistanceKm(), last.getPostId())
+                    : CursorHelper.encode(last.getCreatedAt(), last.getPostId());
+        }
+
+        return new CursorResponse<>(content, nextCursor, hasNext);
+    }
 }
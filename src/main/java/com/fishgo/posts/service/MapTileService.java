@@ -0,0 +1,195 @@
+package com.fishgo.posts.service;
+
+import com.fishgo.common.constants.ErrorCode;
+import com.fishgo.common.exception.CustomException;
+import com.fishgo.common.util.LruCache;
+import com.fishgo.posts.dto.PinpointDto;
+import com.fishgo.posts.event.PinpointChangedEvent;
+import com.fishgo.posts.event.PinpointIndexReloadedEvent;
+import com.fishgo.posts.event.PinpointSyncEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지도 타일(z/x/y, 웹 메르카토르) 단위 핀포인트 바이너리 인코딩 및 캐시
+ *
+ * 타일 형식 (version 2, 정수는 모두 unsigned LEB128 varint)
+ * <pre>
+ * byte    version (= 2)
+ * byte    flags       bit 0: 잘림 (타일 안 핀포인트가 MAX_TILE_PINPOINTS 개를 넘어 최신 게시글만 담음,
+ *                     클라이언트는 다음 줌 레벨 타일을 요청해 나머지를 표시)
+ * varint  count
+ * count 회 반복 (게시글 id 오름차순):
+ *   varint  id 차이 (첫 항목은 id 자체)
+ *   varint  zigzag(x - 이전 x)   x = 타일 서쪽 경계 기준 경도 양자화 값 (0 ~ 4095)
+ *   varint  zigzag(y - 이전 y)   y = 타일 북쪽 경계 기준 위도 양자화 값 (0 ~ 4095, 타일 범위 내 선형)
+ * </pre>
+ * 클라이언트는 lon = west + (x + 0.5) / 4096 * (east - west), lat = north - (y + 0.5) / 4096 * (north - south) 로 복원합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MapTileService {
+
+    public static final int MIN_ZOOM = 8;
+    public static final int MAX_ZOOM = 20;
+
+    private static final byte FORMAT_VERSION = 2;
+    private static final int FLAG_TRUNCATED = 1;
+    private static final int EXTENT = 4096;
+    private static final int MAX_TILE_PINPOINTS = 1000;
+    private static final int CACHE_MAX_TILES = 4096;
+
+    private final MapService mapService;
+
+    private final LruCache<String, Tile> tileCache = new LruCache<>(CACHE_MAX_TILES);
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 타일 조회 (변경되지 않은 타일은 캐시에서 반환)
+     */
+    public Tile getTile(int z, int x, int y) {
+        if (z < MIN_ZOOM || z > MAX_ZOOM) {
+            throw new CustomException(ErrorCode.BAD_REQUEST.getCode(),
+                    "타일 줌 레벨은 " + MIN_ZOOM + " ~ " + MAX_ZOOM + " 사이여야 합니다.");
+        }
+        int n = 1 << z;
+        if (x < 0 || x >= n || y < 0 || y >= n) {
+            throw new CustomException(ErrorCode.BAD_REQUEST.getCode(), "유효하지 않은 타일 좌표입니다.");
+        }
+
+        String key = key(z, x, y);
+        Tile cached = tileCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generationAtStart = generation.get();
+        Tile tile = buildTile(z, x, y);
+
+        // 생성 도중 핀포인트가 바뀌었다면 오래된 타일일 수 있으므로 캐시하지 않음
+        if (generation.get() == generationAtStart) {
+            tileCache.put(key, tile);
+        }
+        return tile;
+    }
+
+    // 핀포인트 색인 갱신 이후에 변경된 위치가 포함된 타일만 캐시에서 제거
+    @Order(1)
+    @EventListener
+    public void handlePinpointSyncEvent(PinpointSyncEvent event) {
+        generation.incrementAndGet();
+        for (PinpointChangedEvent.Change change : event.changes()) {
+            evict(change.before());
+            evict(change.after());
+        }
+    }
+
+    // 색인을 DB 에서 다시 적재하면 이벤트 누락으로 남아 있던 오래된 타일도 모두 버림
+    @EventListener
+    public void handlePinpointIndexReloadedEvent(PinpointIndexReloadedEvent event) {
+        generation.incrementAndGet();
+        tileCache.clear();
+    }
+
+    private void evict(PinpointChangedEvent.Pin pin) {
+        if (pin == null) return;
+
+        for (int z = MIN_ZOOM; z <= MAX_ZOOM; z++) {
+            tileCache.remove(key(z, lonToTileX(pin.lon(), z), latToTileY(pin.lat(), z)));
+        }
+    }
+
+    private Tile buildTile(int z, int x, int y) {
+        double west = tileXToLon(x, z);
+        double east = tileXToLon(x + 1, z);
+        double north = tileYToLat(y, z);
+        double south = tileYToLat(y + 1, z);
+
+        // 잘림 여부 확인을 위해 1건 더 조회 (최신 게시글 순이므로 초과분은 가장 오래된 게시글)
+        List<PinpointDto> pinpoints = new ArrayList<>(
+                mapService.findPinpoints(south, west, north, east, MAX_TILE_PINPOINTS + 1));
+        boolean truncated = pinpoints.size() > MAX_TILE_PINPOINTS;
+        if (truncated) {
+            pinpoints = new ArrayList<>(pinpoints.subList(0, MAX_TILE_PINPOINTS));
+        }
+        pinpoints.sort(Comparator.comparing(PinpointDto::getPostId));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + pinpoints.size() * 6);
+        out.write(FORMAT_VERSION);
+        out.write(truncated ? FLAG_TRUNCATED : 0);
+        writeVarint(out, pinpoints.size());
+
+        long prevId = 0;
+        int prevX = 0;
+        int prevY = 0;
+        for (PinpointDto pinpoint : pinpoints) {
+            int qx = quantize((pinpoint.getLon() - west) / (east - west));
+            int qy = quantize((north - pinpoint.getLat()) / (north - south));
+
+            writeVarint(out, pinpoint.getPostId() - prevId);
+            writeVarint(out, zigzag(qx - prevX));
+            writeVarint(out, zigzag(qy - prevY));
+
+            prevId = pinpoint.getPostId();
+            prevX = qx;
+            prevY = qy;
+        }
+
+        byte[] body = out.toByteArray();
+        String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+        return new Tile(body, etag);
+    }
+
+    private static int quantize(double ratio) {
+        return Math.max(0, Math.min(EXTENT - 1, (int) (ratio * EXTENT)));
+    }
+
+    private static long zigzag(int value) {
+        return ((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static String key(int z, int x, int y) {
+        return z + "/" + x + "/" + y;
+    }
+
+    private static double tileXToLon(int x, int z) {
+        return x / (double) (1 << z) * 360.0 - 180.0;
+    }
+
+    private static double tileYToLat(int y, int z) {
+        double n = Math.PI * (1 - 2.0 * y / (1 << z));
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+
+    private static int lonToTileX(double lon, int z) {
+        int n = 1 << z;
+        return Math.max(0, Math.min(n - 1, (int) Math.floor((lon + 180.0) / 360.0 * n)));
+    }
+
+    private static int latToTileY(double lat, int z) {
+        int n = 1 << z;
+        double latRad = Math.toRadians(lat);
+        double y = (1 - Math.log(Math.tan(latRad) + 1 / Math.cos(latRad)) / Math.PI) / 2 * n;
+        return Math.max(0, Math.min(n - 1, (int) Math.floor(y)));
+    }
+
+    public record Tile(byte[] body, String etag) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.fishgo.posts.service;
+
+import com.fishgo.common.util.GridPointIndex;
+import com.fishgo.posts.dto.PinpointDto;
+import com.fishgo.posts.event.PinpointChangedEvent;
+import com.fishgo.posts.event.PinpointIndexReloadedEvent;
+import com.fishgo.posts.event.PinpointSyncEvent;
+import com.fishgo.posts.respository.PostsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 활성 게시글 핀포인트 인메모리 색인
+ * - 시작 시 DB 에서 전체를 적재하고, 이후에는 PinpointSyncEvent 로 증분 반영합니다.
+ * - 변경분은 1분마다 기본 배열에 합치고, 누락 방지를 위해 1시간마다 DB 에서 다시 적재합니다.
+ *   (적재 중 합치기가 끼어들면 DB 조회 이후 변경분을 잃을 수 있으므로 두 작업은 서로 배타적으로 실행)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PinpointIndexService {
+
+    private final PostsRepository postsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GridPointIndex index = new GridPointIndex();
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.error("Pinpoint index load failed, map queries will use the database: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelay = 60 * 60 * 1000, initialDelay = 60 * 60 * 1000)
+    public synchronized void reload() {
+        List<PinpointDto> pinpoints = postsRepository.findAllActivePinpoints();
+
+        int size = pinpoints.size();
+        long[] ids = new long[size];
+        double[] lats = new double[size];
+        double[] lons = new double[size];
+        for (int i = 0; i < size; i++) {
+            PinpointDto pinpoint = pinpoints.get(i);
+            ids[i] = pinpoint.getPostId();
+            lats[i] = pinpoint.getLat();
+            lons[i] = pinpoint.getLon();
+        }
+
+        index.load(ids, lats, lons);
+        ready = true;
+        log.debug("Pinpoint index loaded: {} pinpoints", size);
+
+        // 누락된 변경이 있었을 수 있으므로 핀포인트 기반 캐시도 다시 만들도록 알림
+        eventPublisher.publishEvent(new PinpointIndexReloadedEvent());
+    }
+
+    @Scheduled(fixedDelay = 60 * 1000)
+    public synchronized void compact() {
+        index.compact();
+    }
+
+    // 같은 이벤트를 사용하는 다른 캐시보다 먼저 색인을 갱신
+    @Order(0)
+    @EventListener
+    public void handlePinpointSyncEvent(PinpointSyncEvent event) {
+        for (PinpointChangedEvent.Change change : event.changes()) {
+            if (change.after() != null) {
+                index.put(change.postId(), change.after().lat(), change.after().lon());
+            } else {
+                index.remove(change.postId());
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 영역 내 핀포인트 조회 (최신 게시글 순)
+     */
+    public List<PinpointDto> getPinpoints(double minLat, double minLon, double maxLat, double maxLon, int limit) {
+        return index.query(minLat, minLon, maxLat, maxLon, limit).stream()
+                .map(point -> new PinpointDto(point.id(), point.lat(), point.lon()))
+                .toList();
+    }
+}
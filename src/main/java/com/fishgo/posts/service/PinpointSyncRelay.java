@@ -0,0 +1,74 @@
+package com.fishgo.posts.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fishgo.posts.event.PinpointChangedEvent;
+import com.fishgo.posts.event.PinpointSyncEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 지도 핀포인트 변경을 모든 서버에 전달합니다.
+ * - 커밋된 변경은 이 서버에 바로 PinpointSyncEvent 로 발행하고, Redis pub/sub 으로 다른 서버에도 전달합니다.
+ * - 다른 서버에서 받은 변경도 PinpointSyncEvent 로 발행합니다. (자신이 보낸 메시지는 무시)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PinpointSyncRelay implements MessageListener {
+
+    public static final String CHANNEL = "map:pinpoint:sync";
+
+    private final String origin = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @TransactionalEventListener
+    public void handlePinpointChangedEvent(PinpointChangedEvent event) {
+        eventPublisher.publishEvent(new PinpointSyncEvent(event.changes()));
+
+        try {
+            String message = objectMapper.writeValueAsString(new SyncMessage(origin, event.changes()));
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (RuntimeException | JsonProcessingException e) {
+            log.warn("Pinpoint sync publish failed, other servers will catch up on reload: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            SyncMessage syncMessage = objectMapper.readValue(message.getBody(), SyncMessage.class);
+            if (origin.equals(syncMessage.origin())) {
+                return;
+            }
+            eventPublisher.publishEvent(new PinpointSyncEvent(syncMessage.changes()));
+        } catch (IOException e) {
+            log.warn("Invalid pinpoint sync message: {}", e.getMessage());
+        }
+    }
+
+    public record SyncMessage(String origin, List<PinpointChangedEvent.Change> changes) {
+    }
+}
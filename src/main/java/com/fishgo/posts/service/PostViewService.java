@@ -0,0 +1,159 @@
+package com.fishgo.posts.service;
+
+import com.fishgo.common.service.RedisLockService;
+import com.fishgo.posts.service.CountBufferService.Counter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 조회수 집계
+ * - 게시글별 4시간 구간마다 HyperLogLog 하나(view:hll:{게시글}:{구간})에 조회자를 넣어 중복 조회를 거릅니다.
+ *   (조회자마다 키를 만들지 않으며, 키는 구간이 끝나면 만료)
+ * - 조회 시에는 PFADD 와 함께 변경된 (게시글, 구간)만 기록하고, 주기적으로 각 구간의 PFCOUNT 가
+ *   마지막으로 반영한 값보다 늘어난 만큼을 CountBufferService 의 조회수 버퍼에 쌓습니다.
+ *   (PFADD 의 반환값은 레지스터 변경 여부일 뿐이라, 조회자가 많아지면 새 조회자도 0 을 반환하므로 사용하지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostViewService {
+
+    // 같은 조회자의 조회를 한 번으로 세는 구간
+    private static final Duration WINDOW = Duration.ofHours(4);
+
+    private static final Duration LOCK_TTL = Duration.ofMinutes(1);
+
+    // 조회수 버퍼와 같은 슬롯에 놓이도록 같은 해시 태그 사용
+    private static final String TOUCHED_KEY = CountBufferService.keyPrefix(Counter.POST_VIEW) + "touched";
+    private static final String COUNTING_KEY = CountBufferService.keyPrefix(Counter.POST_VIEW) + "counting";
+    private static final String LOCK_KEY = CountBufferService.keyPrefix(Counter.POST_VIEW) + "count-lock";
+
+    /**
+     * 집계할 (게시글, 구간) 목록 준비 (KEYS: touched, counting)
+     * 이전에 끝나지 않은 counting 집합이 있으면 그대로, 없으면 touched 를 counting 으로 옮깁니다.
+     */
+    private static final RedisScript<Long> PREPARE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                return 1
+            end
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('RENAME', KEYS[1], KEYS[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * 구간의 추정 고유 조회자 수를 조회수 버퍼에 반영 (KEYS: 구간별 반영 기록, pending / ARGV: 게시글 ID, PFCOUNT, 기록 만료 시각)
+     * 마지막으로 반영한 값보다 커진 만큼만 더하므로, 같은 구간을 여러 번 집계해도 중복 반영되지 않습니다.
+     */
+    private static final RedisScript<Long> APPLY_COUNT_SCRIPT = new DefaultRedisScript<>("""
+            local last = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+            local count = tonumber(ARGV[2])
+            if count <= last then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], count)
+            redis.call('PEXPIREAT', KEYS[1], ARGV[3])
+            redis.call('HINCRBY', KEYS[2], ARGV[1], count - last)
+            return count - last
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CountBufferService countBufferService;
+    private final RedisLockService redisLockService;
+
+    /**
+     * 조회를 기록합니다. Redis 를 쓸 수 없으면 조회수는 세지 않습니다.
+     * 조회수 반영은 주기적인 집계(flush)에서 이루어집니다.
+     * @param viewerKey 조회자 식별값 (회원 ID 또는 IP)
+     */
+    public void recordView(long postId, String viewerKey) {
+        long window = System.currentTimeMillis() / WINDOW.toMillis();
+        String key = hllKey(postId, window);
+        long expireAtMillis = (window + 1) * WINDOW.toMillis();
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                conn.pfAdd(key, viewerKey);
+                conn.pExpireAt(key, expireAtMillis);
+                conn.sAdd(TOUCHED_KEY, postId + ":" + window);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("View count skipped for post {}: {}", postId, e.getMessage());
+        }
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수
+     */
+    public int getPending(long postId) {
+        return countBufferService.getPending(Counter.POST_VIEW, postId);
+    }
+
+    @Scheduled(fixedDelayString = "${posts.count-buffer.flush-interval-ms:5000}")
+    public void flush() {
+        String lockToken = redisLockService.tryLock(LOCK_KEY, LOCK_TTL);
+        if (lockToken == null) {
+            return;
+        }
+
+        try {
+            Long prepared = redisTemplate.execute(PREPARE_SCRIPT, List.of(TOUCHED_KEY, COUNTING_KEY));
+            if (prepared == null || prepared == 0) {
+                return;
+            }
+
+            List<String> members = new ArrayList<>(redisTemplate.opsForSet().members(COUNTING_KEY));
+            List<Object> counts = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                for (String member : members) {
+                    int index = member.indexOf(':');
+                    conn.pfCount(hllKey(Long.parseLong(member.substring(0, index)), Long.parseLong(member.substring(index + 1))));
+                }
+                return null;
+            });
+
+            String pendingKey = CountBufferService.pendingKey(Counter.POST_VIEW);
+            for (int i = 0; i < members.size(); i++) {
+                String member = members.get(i);
+                int index = member.indexOf(':');
+                String postId = member.substring(0, index);
+                long window = Long.parseLong(member.substring(index + 1));
+
+                // 구간이 끝난 뒤에도 늦게 도착한 집계가 중복 반영되지 않도록 한 구간 더 보관
+                long recordExpireAtMillis = (window + 2) * WINDOW.toMillis();
+                redisTemplate.execute(APPLY_COUNT_SCRIPT, List.of(countedKey(window), pendingKey),
+                        postId, String.valueOf(counts.get(i)), String.valueOf(recordExpireAtMillis));
+            }
+
+            // 반영 도중 중단되면 다음 주기에 같은 목록을 다시 집계 (반영 기록으로 중복 없음)
+            redisTemplate.delete(COUNTING_KEY);
+        } catch (RuntimeException e) {
+            log.warn("View count flush failed, will retry: {}", e.getMessage());
+        } finally {
+            redisLockService.unlock(LOCK_KEY, lockToken);
+        }
+    }
+
+    private static String hllKey(long postId, long window) {
+        return "view:hll:" + postId + ":" + window;
+    }
+
+    private static String countedKey(long window) {
+        return CountBufferService.keyPrefix(Counter.POST_VIEW) + "counted:" + window;
+    }
+}
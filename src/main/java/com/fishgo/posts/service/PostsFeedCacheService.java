@@ -0,0 +1,238 @@
+package com.fishgo.posts.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fishgo.common.util.LruCache;
+import com.fishgo.posts.dto.FeedCacheStatsDto;
+import com.fishgo.posts.dto.PostListResponseDto;
+import com.fishgo.posts.event.PostsChangedEvent;
+import com.fishgo.posts.event.UserPostsActiveChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 목록 앞 페이지 캐시 (로컬 LRU -> Redis -> DB 순으로 조회)
+ * - 게시글 작성/삭제, 탈퇴 처리 시에는 페이지 경계가 밀리므로 전체 무효화
+ * - 게시글 수정, 이미지 변경 시에는 해당 게시글이 포함된 페이지만 무효화
+ * - 무효화는 Redis pub/sub 으로 모든 서버의 로컬 캐시에 전파됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostsFeedCacheService implements MessageListener {
+
+    public static final String INVALIDATE_CHANNEL = "posts:feed:invalidate";
+
+    private static final String GENERATION_KEY = "posts:feed:generation";
+    private static final String PAGE_KEY_PREFIX = "posts:feed:page:";
+    private static final String POST_KEY_PREFIX = "posts:feed:post:";
+    private static final String INVALIDATE_ALL = "ALL";
+    private static final String INVALIDATE_POST_PREFIX = "POST:";
+
+    private static final int LOCAL_MAX_ENTRIES = 64;
+    private static final long LOCAL_TTL_MILLIS = 10_000;
+    private static final long REDIS_TTL_SECONDS = 60;
+
+    @Value("${posts.feed-cache.max-pages:3}")
+    private int maxCachedPages;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    private final LruCache<String, FeedCachePage> localCache = new LruCache<>(LOCAL_MAX_ENTRIES, LOCAL_TTL_MILLIS);
+    private final AtomicLong localGeneration = new AtomicLong();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder redisMisses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private ObjectReader pageReader;
+
+    @PostConstruct
+    public void init() {
+        pageReader = objectMapper.readerFor(FeedCachePage.class);
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 캐시 대상 페이지면 캐시에서, 아니면 loader 로 조회합니다.
+     * @param pageable 페이지 정보
+     * @param loader 캐시 미스 시 DB 조회 함수
+     * @return 게시글 목록 페이지
+     */
+    public Page<PostListResponseDto> getPage(Pageable pageable, Supplier<Page<PostListResponseDto>> loader) {
+        if (pageable.getPageNumber() >= maxCachedPages) {
+            return loader.get();
+        }
+
+        String localKey = pageable.getPageNumber() + ":" + pageable.getPageSize();
+        long generationAtStart = localGeneration.get();
+
+        // 1) 로컬 캐시
+        FeedCachePage cached = localCache.get(localKey);
+        if (cached != null) {
+            return cached.toPage(pageable);
+        }
+
+        // 2) Redis 캐시
+        String redisKey = null;
+        try {
+            redisKey = PAGE_KEY_PREFIX + currentRedisGeneration() + ":" + localKey;
+            String json = redisTemplate.opsForValue().get(redisKey);
+            if (json != null) {
+                redisHits.increment();
+                cached = pageReader.readValue(json);
+                putLocal(localKey, cached, generationAtStart);
+                return cached.toPage(pageable);
+            }
+            redisMisses.increment();
+        } catch (RuntimeException | JsonProcessingException e) {
+            log.warn("Feed cache read failed, falling back to DB: {}", e.getMessage());
+            redisKey = null;
+        }
+
+        // 3) DB 조회 후 캐시에 적재
+        Page<PostListResponseDto> page = loader.get();
+        cached = new FeedCachePage(page.getContent(), page.getTotalElements());
+
+        if (redisKey != null) {
+            putRedis(redisKey, cached);
+        }
+        putLocal(localKey, cached, generationAtStart);
+
+        return page;
+    }
+
+    @TransactionalEventListener
+    public void handlePostsChangedEvent(PostsChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, DELETED -> invalidateAll();
+            case UPDATED, IMAGES_CHANGED -> invalidatePost(event.postId());
+        }
+    }
+
+    @TransactionalEventListener
+    public void handleUserPostsActiveChangedEvent(UserPostsActiveChangedEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * 모든 서버에서 수신하는 무효화 메시지 처리 (로컬 캐시만 비움)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        invalidations.increment();
+        localGeneration.incrementAndGet();
+
+        if (body.startsWith(INVALIDATE_POST_PREFIX)) {
+            long postId = Long.parseLong(body.substring(INVALIDATE_POST_PREFIX.length()));
+            localCache.removeIf((key, page) -> page.contains(postId));
+        } else {
+            localCache.clear();
+        }
+    }
+
+    public FeedCacheStatsDto getStats() {
+        return new FeedCacheStatsDto(
+                localCache.getHitCount(),
+                localCache.getMissCount(),
+                localCache.getEvictionCount(),
+                localCache.size(),
+                redisHits.sum(),
+                redisMisses.sum(),
+                invalidations.sum()
+        );
+    }
+
+    // 세대 번호를 올려 기존 Redis 페이지 키를 모두 무효화 (기존 키는 TTL로 자연 만료)
+    private void invalidateAll() {
+        try {
+            redisTemplate.opsForValue().increment(GENERATION_KEY);
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, INVALIDATE_ALL);
+        } catch (RuntimeException e) {
+            log.warn("Feed cache invalidation failed: {}", e.getMessage());
+            localCache.clear();
+        }
+    }
+
+    // 해당 게시글이 포함된 Redis 페이지 키만 삭제
+    private void invalidatePost(Long postId) {
+        try {
+            String postKey = POST_KEY_PREFIX + postId;
+            Set<String> pageKeys = redisTemplate.opsForSet().members(postKey);
+            if (pageKeys != null && !pageKeys.isEmpty()) {
+                redisTemplate.delete(pageKeys);
+            }
+            redisTemplate.delete(postKey);
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, INVALIDATE_POST_PREFIX + postId);
+        } catch (RuntimeException e) {
+            log.warn("Feed cache invalidation failed for post {}: {}", postId, e.getMessage());
+            localCache.removeIf((key, page) -> page.contains(postId));
+        }
+    }
+
+    private long currentRedisGeneration() {
+        String generation = redisTemplate.opsForValue().get(GENERATION_KEY);
+        return generation == null ? 0 : Long.parseLong(generation);
+    }
+
+    private void putLocal(String key, FeedCachePage page, long generationAtStart) {
+        // 조회 도중 무효화가 발생했다면 오래된 데이터일 수 있으므로 적재하지 않음
+        if (localGeneration.get() == generationAtStart) {
+            localCache.put(key, page);
+        }
+    }
+
+    private void putRedis(String redisKey, FeedCachePage page) {
+        try {
+            String json = objectMapper.writeValueAsString(page);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                conn.setEx(redisKey, REDIS_TTL_SECONDS, json);
+                // 게시글 -> 캐시 페이지 역색인 (수정 시 해당 페이지만 무효화하기 위함)
+                for (PostListResponseDto post : page.content()) {
+                    String postKey = POST_KEY_PREFIX + post.getId();
+                    conn.sAdd(postKey, redisKey);
+                    conn.expire(postKey, REDIS_TTL_SECONDS);
+                }
+                return null;
+            });
+        } catch (RuntimeException | JsonProcessingException e) {
+            log.warn("Feed cache write failed: {}", e.getMessage());
+        }
+    }
+
+    public record FeedCachePage(List<PostListResponseDto> content, long totalElements) {
+
+        Page<PostListResponseDto> toPage(Pageable pageable) {
+            return new PageImpl<>(content, pageable, totalElements);
+        }
+
+        boolean contains(long postId) {
+            return content.stream().anyMatch(post -> post.getId() == postId);
+        }
+    }
+}
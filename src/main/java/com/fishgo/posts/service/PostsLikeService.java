@@ -1,15 +1,23 @@
 package com.fishgo.posts.service;
 
-import com.fishgo.posts.domain.Posts;
-import com.fishgo.posts.domain.PostsLike;
+import com.fishgo.posts.dto.PostListResponseDto;
 import com.fishgo.posts.respository.PostsLikeRepository;
 import com.fishgo.posts.respository.PostsRepository;
+import com.fishgo.posts.service.CountBufferService.Counter;
+import com.fishgo.posts.service.LikeMembershipService.Target;
 import com.fishgo.users.domain.Users;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시글 좋아요 누르기/취소 (증감 방식은 CountBufferService 참고)
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -17,45 +25,70 @@ public class PostsLikeService {
 
     private final PostsLikeRepository postsLikeRepository;
     private final PostsRepository postsRepository;
+    private final CountBufferService countBufferService;
+    private final LikeMembershipService likeMembershipService;
 
     // 좋아요 누르기
     public void likePosts(Long PostsId, @AuthenticationPrincipal Users currentUser) {
 
-        // 이미 좋아요 눌렀는지 확인 (중복 방지)
-        boolean alreadyLiked = postsLikeRepository.existsByPostIdAndUserId(PostsId, currentUser.getId());
-        if (alreadyLiked) {
+        // 좋아요 이력 추가 (이미 눌렀거나 게시글이 없으면 0)
+        if (postsLikeRepository.insertIgnoringConflict(PostsId, currentUser.getId()) == 0) {
+            if (!postsRepository.existsById(PostsId)) {
+                throw new IllegalArgumentException("존재하지 않는 게시글입니다.");
+            }
             throw new IllegalStateException("이미 좋아요를 누른 게시글입니다.");
         }
 
-        // 게시글 조회
-        Posts posts = postsRepository.findById(PostsId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다."));
+        countBufferService.add(Counter.POST_LIKE, PostsId, 1);
+        likeMembershipService.record(Target.POST, PostsId, currentUser.getId(), true);
+    }
 
-        // 좋아요 이력 생성
-        PostsLike postsLike = PostsLike.builder()
-                .post(posts)
-                .user(currentUser)
-                .build();
+    // 좋아요 취소
+    public void unlikePosts(Long PostsId, @AuthenticationPrincipal Users currentUser) {
 
-        postsLikeRepository.save(postsLike);
+        // 좋아요 이력 삭제 (기록이 없으면 0)
+        if (postsLikeRepository.deleteByPostIdAndUserIdReturningCount(PostsId, currentUser.getId()) == 0) {
+            throw new IllegalStateException("좋아요를 누른 기록이 없습니다.");
+        }
 
-        // (선택) Posts의 likeCount 증가
-        posts.setLikeCount(posts.getLikeCount() + 1);
+        countBufferService.add(Counter.POST_LIKE, PostsId, -1);
+        likeMembershipService.record(Target.POST, PostsId, currentUser.getId(), false);
     }
 
-    // 좋아요 취소
-    public void unlikePosts(Long PostsId, @AuthenticationPrincipal Users currentUser) {
+    /**
+     * 목록 내 게시글의 좋아요 여부를 채움 (비로그인 시 모두 false)
+     * 멤버십이 적재된 게시글은 메모리에서, 나머지는 한 번의 쿼리로 판단합니다.
+     * @param posts 조회가 완료된 게시글 목록 응답 객체
+     * @param currentUser 현재 접속 중인 유저 객체 (없으면 null)
+     */
+    @Transactional(readOnly = true)
+    public void fillLikedByMe(List<? extends PostListResponseDto> posts, Users currentUser) {
+        if (currentUser == null || posts.isEmpty()) return;
+
+        Set<Long> likedIds = likeMembershipService.findLiked(Target.POST, currentUser.getId(),
+                posts.stream().map(PostListResponseDto::getId).toList());
+
+        for (PostListResponseDto post : posts) {
+            post.setLikedByMe(likedIds.contains(post.getId()));
+        }
+    }
 
-        // 좋아요 이력 조회
-        PostsLike PostsLike = postsLikeRepository
-                .findByPostIdAndUserId(PostsId, currentUser.getId())
-                .orElseThrow(() -> new IllegalStateException("좋아요를 누른 기록이 없습니다."));
+    /**
+     * 목록 내 게시글 좋아요 수에 아직 DB 에 반영되지 않은 증감분을 더함 (쓰기 지연 모드, 한 번의 조회)
+     * @param posts 조회가 완료된 게시글 목록 응답 객체 (캐시 공유 객체가 아닌 복사본)
+     */
+    public void applyPendingLikeCounts(List<? extends PostListResponseDto> posts) {
+        if (posts.isEmpty()) return;
 
-        // DB에서 제거
-        postsLikeRepository.delete(PostsLike);
+        Map<Long, Integer> pending = countBufferService.getPending(Counter.POST_LIKE,
+                posts.stream().map(PostListResponseDto::getId).toList());
+        if (pending.isEmpty()) return;
 
-        // (선택) likeCount 감소
-        Posts Posts = PostsLike.getPost();
-        Posts.setLikeCount(Posts.getLikeCount() - 1);
+        for (PostListResponseDto post : posts) {
+            Integer delta = pending.get(post.getId());
+            if (delta != null) {
+                post.setLikeCount(post.getLikeCount() + delta);
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -4,59 +4,124 @@ import com.fishgo.badge.event.PostCreatedEvent;
 import com.fishgo.common.constants.ErrorCode;
 import com.fishgo.common.constants.UploadPaths;
 import com.fishgo.common.exception.CustomException;
+import com.fishgo.common.response.CursorResponse;
 import com.fishgo.common.service.ImageService;
-import com.fishgo.common.service.RedisService;
+import com.fishgo.common.util.CursorHelper;
+import com.fishgo.common.util.HighlightHelper;
 import com.fishgo.common.util.ImageValidator;
 import com.fishgo.posts.domain.Hashtag;
 import com.fishgo.posts.domain.PostImage;
 import com.fishgo.posts.domain.Posts;
 import com.fishgo.posts.dto.*;
 import com.fishgo.posts.dto.mapper.PostsMapper;
+import com.fishgo.posts.dto.projection.PostSearchProjection;
+import com.fishgo.posts.event.PinpointChangedEvent;
+import com.fishgo.posts.event.PostsChangeType;
+import com.fishgo.posts.event.PostsChangedEvent;
 import com.fishgo.posts.respository.HashtagRepository;
-import com.fishgo.posts.respository.PostsLikeRepository;
 import com.fishgo.posts.respository.PostsRepository;
+import com.fishgo.posts.service.CountBufferService.Counter;
+import com.fishgo.posts.service.LikeMembershipService.Target;
 import com.fishgo.users.domain.Users;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.nio.file.FileSystemException;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PostsService {
 
+    // 미리보기 한 번에 조회 가능한 최대 게시글 수
+    private static final int MAX_PREVIEW_IDS = 50;
+
+    // 목록 한 번에 조회 가능한 최대 게시글 수
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // pg_trgm 이 인덱스 검색에 사용하는 최소 글자 수
+    private static final int TRIGRAM_LENGTH = 3;
+
     @Value("${user.upload.path}")
     String uploadPath;
 
     private final PostsRepository postsRepository;
+    private final HashtagService hashtagService;
     private final HashtagRepository hashtagRepository;
+    private final CatchHeatmapService catchHeatmapService;
     private final PostsMapper postsMapper;
-    private final PostsLikeRepository postsLikeRepository;
+    private final PostsLikeService postsLikeService;
     private final ImageService imageService;
-    private final RedisService redisService;
+    private final PostViewService postViewService;
     private final ApplicationEventPublisher eventPublisher;
+    private final PostsFeedCacheService feedCacheService;
+    private final CountBufferService countBufferService;
+    private final LikeMembershipService likeMembershipService;
 
     /**
      * 게시글 목록
      * @param pageable page, size, 정렬기준을 담은 pageable 객체
+     * @param currentUser 현재 접속 중인 유저 객체 (좋아요 여부 표시용, 없으면 null)
      * @return 게시글 목록 응답 DTO
      */
-    public Page<PostListResponseDto> getAllPosts(Pageable pageable) {
-        Page<Posts> page = postsRepository.findAllByActive(true, pageable);
+    public Page<PostListResponseDto> getAllPosts(Pageable pageable, Users currentUser) {
+        Page<PostListResponseDto> page = feedCacheService.getPage(pageable, () -> postsRepository.findPostList(pageable));
+
+        // 캐시된 객체는 다른 사용자와 공유되므로 복사본에 미반영 좋아요 수와 좋아요 여부를 채움
+        Page<PostListResponseDto> copied = page.map(PostListResponseDto::new);
+        postsLikeService.applyPendingLikeCounts(copied.getContent());
+        postsLikeService.fillLikedByMe(copied.getContent(), currentUser);
+        return copied;
+    }
+
+    /**
+     * 게시글 피드 (커서 기반)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 조회 개수 (1 ~ 100 으로 보정)
+     * @param currentUser 현재 접속 중인 유저 객체 (좋아요 여부 표시용, 없으면 null)
+     * @return 게시글 목록과 다음 커서를 담은 응답 객체
+     */
+    public CursorResponse<PostListResponseDto> getFeed(String cursor, int size, Users currentUser) {
+        Pageable pageable = PageRequest.of(0, clampPageSize(size));
+
+        Slice<PostListResponseDto> slice = (cursor == null || cursor.isBlank())
+                ? postsRepository.findFeed(pageable)
+                : postsRepository.findFeedAfter(CursorHelper.decode(cursor).id(), pageable);
+
+        postsLikeService.applyPendingLikeCounts(slice.getContent());
+        postsLikeService.fillLikedByMe(slice.getContent(), currentUser);
+        return toCursorResponse(slice);
+    }
+
+    // 조회 개수를 1 ~ MAX_PAGE_SIZE 로 제한
+    private static int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private CursorResponse<PostListResponseDto> toCursorResponse(Slice<PostListResponseDto> slice) {
+        List<PostListResponseDto> content = slice.getContent();
+
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            PostListResponseDto last = content.getLast();
+            nextCursor = CursorHelper.encode(last.getCreatedAt(), last.getId());
+        }
 
-        return page.map(postsMapper::toPostListResponseDto);
+        return new CursorResponse<>(content, nextCursor, slice.hasNext());
     }
 
 
@@ -70,7 +135,7 @@ public class PostsService {
     public PostsDto createPost(PostsCreateRequestDto postsDto, Users user) {
 
         // Hashtag 처리
-        Set<Hashtag> hashtags = processHashtags(postsDto.getHashTag());
+        Set<Hashtag> hashtags = hashtagService.resolveHashtags(postsDto.getHashTag());
 
         // 3) Posts 엔티티 생성
         Posts newPost = postsMapper.toEntity(postsDto);
@@ -80,8 +145,13 @@ public class PostsService {
         // 4) DB 저장
         Posts savedPost = postsRepository.save(newPost);
 
+        hashtagService.addPostCount(hashtags, 1);
+        catchHeatmapService.move(null, CatchHeatmapService.CatchKey.of(savedPost));
+
         // 뱃지 이벤트
         eventPublisher.publishEvent(new PostCreatedEvent(savedPost));
+        eventPublisher.publishEvent(new PostsChangedEvent(savedPost.getId(), PostsChangeType.CREATED));
+        publishPinpointChange(savedPost.getId(), null, PinpointChangedEvent.Pin.of(savedPost));
 
         // 5) 결과 DTO 반환
         return postsMapper.toDtoWithoutImage(newPost);
@@ -118,6 +188,8 @@ public class PostsService {
         // 이미지 id를 가져오기 위해 flush 처리
         postsRepository.flush();
 
+        eventPublisher.publishEvent(new PostsChangedEvent(postId, PostsChangeType.IMAGES_CHANGED));
+
         return postsMapper.toDto(post).getImages();
     }
 
@@ -144,15 +216,111 @@ public class PostsService {
             imageService.deleteOldImage(postPath + postImage.getImageName()); // 실제 파일 삭제
         }
 
+        if (!toRemove.isEmpty()) {
+            eventPublisher.publishEvent(new PostsChangedEvent(postId, PostsChangeType.IMAGES_CHANGED));
+        }
+
         return postsMapper.toDto(post).getImages();
     }
 
 
-    public Page<PostListResponseDto> searchPosts(String query, Pageable pageable) {
+    /**
+     * 지도 핀 미리보기 일괄 조회
+     * 상세 조회와 달리 조회수를 올리지 않으며, 비활성/없는 게시글은 결과에서 빠집니다.
+     * @param ids 게시글 ID 목록 (최대 50개, 중복 제거)
+     * @return 요청한 ID 순서대로 정렬된 미리보기 목록
+     */
+    public List<PostPreviewDto> getPostPreviews(List<Long> ids) {
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        uniqueIds.remove(null);
+        if (uniqueIds.isEmpty()) {
+            return List.of();
+        }
+        if (uniqueIds.size() > MAX_PREVIEW_IDS) {
+            throw new CustomException(ErrorCode.BAD_REQUEST.getCode(),
+                    "한 번에 최대 " + MAX_PREVIEW_IDS + "개의 게시글만 조회할 수 있습니다.");
+        }
+
+        Map<Long, PostPreviewDto> previews = postsRepository.findPreviewsByIdIn(uniqueIds).stream()
+                .collect(Collectors.toMap(PostPreviewDto::getId, Function.identity()));
+
+        return uniqueIds.stream()
+                .map(previews::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 해시태그별 게시글 목록 조회 (커서 기반)
+     * @param name 해시태그 이름
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 조회 개수 (1 ~ 100 으로 보정)
+     * @param currentUser 현재 접속 중인 유저 객체 (좋아요 여부 표시용, 없으면 null)
+     * @return 해시태그 게시글 수와 게시글 목록
+     */
+    public HashtagPostsResponseDto getPostsByHashtag(String name, String cursor, int size, Users currentUser) {
+        Hashtag hashtag = hashtagRepository.findByName(name);
+        if (hashtag == null) {
+            throw new CustomException(ErrorCode.NOT_FOUND.getCode(), "해시태그가 존재하지 않습니다.");
+        }
+
+        Pageable pageable = PageRequest.of(0, clampPageSize(size));
+        Slice<PostListResponseDto> slice = (cursor == null || cursor.isBlank())
+                ? postsRepository.findPostListByHashtag(hashtag.getId(), pageable)
+                : postsRepository.findPostListByHashtagAfter(hashtag.getId(), CursorHelper.decode(cursor).id(), pageable);
 
-        Page<Posts> page = postsRepository.searchPosts(query, pageable);
+        postsLikeService.applyPendingLikeCounts(slice.getContent());
+        postsLikeService.fillLikedByMe(slice.getContent(), currentUser);
+        return new HashtagPostsResponseDto(hashtag.getName(), hashtag.getPostCount(), toCursorResponse(slice));
+    }
+
+    /**
+     * 게시글 검색 (제목/본문 부분 일치, 활성 게시글만)
+     * @param query 검색어
+     * @param sort 정렬 방식 (유사도순/최신순)
+     * @param pageable 페이지 정보 (정렬은 sort 로 지정하므로 무시됨)
+     * @param currentUser 현재 접속 중인 유저 객체 (좋아요 여부 표시용, 없으면 null)
+     * @return 검색어가 강조된 스니펫을 포함한 게시글 목록
+     */
+    public Page<PostSearchResponseDto> searchPosts(String query, PostSearchSort sort, Pageable pageable, Users currentUser) {
+        String pattern = "%" + escapeLikePattern(query) + "%";
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), clampPageSize(pageable.getPageSize()));
+
+        // trigram 을 만들 수 없는 짧은 검색어는 2-gram 인덱스로 검색
+        boolean shortQuery = query.codePointCount(0, query.length()) < TRIGRAM_LENGTH;
+        Page<PostSearchProjection> result = switch (sort) {
+            case RELEVANCE -> shortQuery
+                    ? postsRepository.searchShortByRelevance(query, pattern, unsorted)
+                    : postsRepository.searchByRelevance(query, pattern, unsorted);
+            case RECENT -> shortQuery
+                    ? postsRepository.searchShortByRecent(query, pattern, unsorted)
+                    : postsRepository.searchByRecent(query, pattern, unsorted);
+        };
+
+        Page<PostSearchResponseDto> posts = result.map(row -> new PostSearchResponseDto(
+                row.getId(),
+                row.getUserId(),
+                row.getName(),
+                row.getProfileImg(),
+                row.getTitle(),
+                row.getContents(),
+                row.getThumbnail(),
+                row.getLikeCount(),
+                row.getViewCount(),
+                row.getCreatedAt(),
+                HighlightHelper.highlight(row.getSnippetSource(), query)
+        ));
+
+        postsLikeService.applyPendingLikeCounts(posts.getContent());
+        postsLikeService.fillLikedByMe(posts.getContent(), currentUser);
+        return posts;
+    }
 
-        return page.map(postsMapper::toPostListResponseDto);
+    // LIKE 패턴의 특수문자(\, %, _) 이스케이프
+    private String escapeLikePattern(String query) {
+        return query.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
     }
 
     /**
@@ -171,12 +339,18 @@ public class PostsService {
             throw new IllegalArgumentException("작성자만 수정 가능합니다.");
         }
 
+        PinpointChangedEvent.Pin pinBefore = PinpointChangedEvent.Pin.of(post);
+        CatchHeatmapService.CatchKey catchBefore = CatchHeatmapService.CatchKey.of(post);
         Set<Hashtag> oldHashtags = post.getHashtag();
-        Set<Hashtag> newHashtags = processHashtags(postsDto.getHashtag());
+        Set<Hashtag> newHashtags = hashtagService.resolveHashtags(postsDto.getHashtag());
+
+        // 캐시에서 찾은 해시태그는 기존 엔티티와 인스턴스가 다를 수 있으므로 ID로 비교
+        Set<Long> oldHashtagIds = oldHashtags.stream().map(Hashtag::getId).collect(Collectors.toSet());
+        Set<Long> newHashtagIds = newHashtags.stream().map(Hashtag::getId).collect(Collectors.toSet());
 
         // Post 엔티티의 기존 해시태그 중, newHashtags에 포함되지 않는 것들은 제거
         Set<Hashtag> toRemove = oldHashtags.stream()
-                .filter(h -> !newHashtags.contains(h))
+                .filter(h -> !newHashtagIds.contains(h.getId()))
                 .collect(Collectors.toSet());
 
         // 연결관계 해제 (다대다이기 때문에 중간 테이블에서 해당 연결만 삭제)
@@ -186,18 +360,29 @@ public class PostsService {
 
         // 새 해시태그 추가
         Set<Hashtag> toAdd = newHashtags.stream()
-                .filter(h -> !oldHashtags.contains(h))
+                .filter(h -> !oldHashtagIds.contains(h.getId()))
                 .collect(Collectors.toSet());
 
         for (Hashtag h : toAdd) {
             post.addHashtag(h);
         }
 
+        // 삭제된 게시글은 해시태그 게시글 수에 포함되지 않음
+        if (post.isActive()) {
+            hashtagService.addPostCount(toAdd, 1);
+            hashtagService.addPostCount(toRemove, -1);
+        }
+
         postsMapper.updateFromDto(postsDto, post);
 
         postsRepository.save(post);
         postsRepository.flush();
 
+        catchHeatmapService.move(catchBefore, CatchHeatmapService.CatchKey.of(post));
+
+        eventPublisher.publishEvent(new PostsChangedEvent(postId, PostsChangeType.UPDATED));
+        publishPinpointChange(postId, pinBefore, PinpointChangedEvent.Pin.of(post));
+
         return postsMapper.toDtoWithoutImage(post);
     }
 
@@ -215,7 +400,22 @@ public class PostsService {
             throw new IllegalArgumentException("작성자만 수정 가능합니다.");
         }
 
+        PinpointChangedEvent.Pin pinBefore = PinpointChangedEvent.Pin.of(post);
+        if (post.isActive()) {
+            hashtagService.addPostCount(post.getHashtag(), -1);
+        }
+        catchHeatmapService.move(CatchHeatmapService.CatchKey.of(post), null);
         post.setActive(false);
+
+        eventPublisher.publishEvent(new PostsChangedEvent(postId, PostsChangeType.DELETED));
+        publishPinpointChange(postId, pinBefore, null);
+    }
+
+    // 지도 표시 상태가 바뀐 경우에만 발행
+    private void publishPinpointChange(Long postId, PinpointChangedEvent.Pin before, PinpointChangedEvent.Pin after) {
+        if (!Objects.equals(before, after)) {
+            eventPublisher.publishEvent(PinpointChangedEvent.of(postId, before, after));
+        }
     }
 
     public Posts findById(long postId) {
@@ -237,23 +437,16 @@ public class PostsService {
                     "탈퇴한 사용자의 게시글은 볼 수 없습니다.");
         }
 
-        // Redis 조회 키 생성
-        String redisKey = "postView:" + postId + ":" + redisUserKey;
+        // 조회수 (같은 조회자는 4시간 구간에 한 번만 세고, DB 반영은 일괄 처리)
+        postViewService.recordView(postId, redisUserKey);
 
-        // 3. Redis에 해당 키가 존재하는 지 확인
-        if (!redisService.exists(redisKey)) {
-            // 키가 없으면 -> 조회수 증가 로직
-            post.increaseViewCount();
-            postsRepository.save(post);
-
-            // Redis에 저장 + 만료 시간(4시간) 설정
-            redisService.setWithExpire(redisKey, true, 4, TimeUnit.HOURS);
-        }
-        // 게시물을 DTO로 변환하여 반환
+        // 게시물을 DTO로 변환하여 반환 (아직 DB 에 반영되지 않은 증감분 포함)
         PostsDto postDto = postsMapper.toDto(post);
+        postDto.setLikeCount(postDto.getLikeCount() + countBufferService.getPending(Counter.POST_LIKE, postId));
+        postDto.setViewCount(postDto.getViewCount() + postViewService.getPending(postId));
 
         if(currentUser != null){
-            boolean liked = postsLikeRepository.existsByPostIdAndUserId(postId, currentUser.getId());
+            boolean liked = likeMembershipService.isLiked(Target.POST, postId, currentUser.getId());
             postDto.setLiked(liked);
         }
 
@@ -261,26 +454,6 @@ public class PostsService {
         return postDto;
     }
 
-    private Set<Hashtag> processHashtags(List<String> hashtags) {
-        Set<Hashtag> verifiedHashtags = new HashSet<>();
-
-        if(hashtags != null && !hashtags.isEmpty()){
-            for (String tag : hashtags) {
-
-                Hashtag existingHashtag = hashtagRepository.findByName(tag);
-                if (existingHashtag == null) {
-
-                    existingHashtag = new Hashtag(tag);
-
-                    hashtagRepository.save(existingHashtag);
-                }
-                verifiedHashtags.add(existingHashtag);
-            }
-
-        }
-        return verifiedHashtags;
-    }
-
 
 
 }
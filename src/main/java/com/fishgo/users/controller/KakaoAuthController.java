@@ -28,6 +28,7 @@ import java.util.Base64;
 public class KakaoAuthController {
 
     private final KakaoAuthService kakaoAuthService;
+    private final ObjectMapper objectMapper;
 
     // 카카오 개발자 콘솔에서 발급받은 값
     @Value("${kakao.rest.api.key}")
@@ -73,7 +74,6 @@ public class KakaoAuthController {
             UserResponseDto userResponseDto = kakaoAuthService.processKakaoLogin(authorizationCode, response);
 
             // DTO to Json 변환
-            ObjectMapper objectMapper = new ObjectMapper();
             String jsonData = objectMapper.writeValueAsString(userResponseDto);
 
             // 특수문자처리를 위한 Base64 인코딩
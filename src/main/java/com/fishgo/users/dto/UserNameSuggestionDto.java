@@ -0,0 +1,17 @@
+package com.fishgo.users.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Schema(description = "닉네임 자동완성 결과 DTO")
+@Getter
+@AllArgsConstructor
+public class UserNameSuggestionDto {
+
+    @Schema(description = "유저 아이디")
+    private long userId;
+
+    @Schema(description = "유저 닉네임")
+    private String name;
+}
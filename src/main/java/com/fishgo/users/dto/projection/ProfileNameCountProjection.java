@@ -0,0 +1,7 @@
+package com.fishgo.users.dto.projection;
+
+public interface ProfileNameCountProjection {
+    Long getUserId();
+    String getName();
+    Long getPostCount();
+}
@@ -0,0 +1,8 @@
+package com.fishgo.users.event;
+
+/**
+ * 프로필 이름 변경 이벤트
+ * - 회원가입(oldName 은 null) 및 닉네임 변경 시 발행됩니다.
+ */
+public record ProfileNameChangedEvent(long userId, String oldName, String newName) {
+}
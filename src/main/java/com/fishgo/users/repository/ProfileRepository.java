@@ -1,13 +1,27 @@
 package com.fishgo.users.repository;
 
 import com.fishgo.users.domain.Profile;
+import com.fishgo.users.dto.projection.ProfileNameCountProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+
 public interface ProfileRepository extends JpaRepository<Profile, Long> {
     @Query("SELECT p.profileImg FROM Profile p WHERE p.user.id = :userId")
     String findProfileImgByUserId(@Param("userId") Long userId);
 
     boolean existsByName(String name);
+
+    // 자동완성 색인 적재용 (활성 회원의 아이디, 이름과 활성 게시글 수)
+    @Query("""
+            SELECT u.id AS userId, pr.name AS name, COUNT(p) AS postCount
+            FROM Profile pr
+            JOIN pr.user u
+            LEFT JOIN Posts p ON p.users = u AND p.active = true
+            WHERE u.status = com.fishgo.users.domain.UserStatus.ACTIVE
+            GROUP BY u.id, pr.name
+            """)
+    List<ProfileNameCountProjection> findAllActiveNameAndPostCount();
 }
@@ -2,6 +2,7 @@ package com.fishgo.users.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fishgo.users.dto.SignupRequestDto;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
@@ -15,9 +16,13 @@ public class EmailVerService {
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
 
+    // 요청마다 타입 정보를 다시 찾지 않도록 미리 만들어 둔 Reader (스레드 안전)
+    private final ObjectReader userInfoReader;
+
     public EmailVerService(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
         this.redisTemplate = redisTemplate;
         this.objectMapper = objectMapper;
+        this.userInfoReader = objectMapper.readerFor(SignupRequestDto.class);
     }
 
     public String generateVerificationCode(String email) {
@@ -40,7 +45,7 @@ public class EmailVerService {
     public SignupRequestDto getUserInfo(String email) throws JsonProcessingException {
         ValueOperations<String, String> ops = redisTemplate.opsForValue();
         String userInfoJson = ops.get(email + ":info");
-        return objectMapper.readValue(userInfoJson, SignupRequestDto.class);
+        return userInfoReader.readValue(userInfoJson);
     }
 
     public void deleteUserInfo(String email) {
@@ -1,6 +1,5 @@
 package com.fishgo.users.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fishgo.common.constants.ErrorCode;
 import com.fishgo.common.exception.CustomException;
 import com.fishgo.common.response.KakaoApiResponse;
@@ -58,11 +57,7 @@ public class KakaoAuthService {
         String kakaoAccessToken = (String) tokenInfo.get("access_token");
 
         // AccessToken으로 사용자 정보 조회
-        Object kakaoUserInfoObject = requestUserInfo(kakaoAccessToken);
-
-        // 카카오 API 응답 변환
-        ObjectMapper objectMapper = new ObjectMapper();
-        KakaoApiResponse kakaoApiResponse = objectMapper.convertValue(kakaoUserInfoObject, KakaoApiResponse.class);
+        KakaoApiResponse kakaoApiResponse = requestUserInfo(kakaoAccessToken);
         Map<String, Object> kakaoAccount = kakaoApiResponse.getKakaoAccount();
 
         // 카카오 프로필의 이메일
@@ -134,18 +129,19 @@ public class KakaoAuthService {
 
     /**
      * 받아온 Access Token으로 사용자 정보 요청
+     * (응답을 Map 으로 받은 뒤 다시 변환하지 않고 KakaoApiResponse 로 바로 역직렬화)
      */
-    private Map<String, Object> requestUserInfo(String accessToken) {
+    private KakaoApiResponse requestUserInfo(String accessToken) {
         HttpHeaders userHeaders = new HttpHeaders();
         userHeaders.set("Authorization", "Bearer " + accessToken);
 
         HttpEntity<?> userRequest = new HttpEntity<>(userHeaders);
         String KAKAO_USER_INFO_URL = "https://kapi.kakao.com/v2/user/me";
-        ResponseEntity<Map<String, Object>> userResponse = restTemplate.exchange(
+        ResponseEntity<KakaoApiResponse> userResponse = restTemplate.exchange(
                 KAKAO_USER_INFO_URL,
                 HttpMethod.GET,
                 userRequest,
-                new ParameterizedTypeReference<>() {}
+                KakaoApiResponse.class
         );
 
         if (!userResponse.getStatusCode().is2xxSuccessful() || userResponse.getBody() == null) {
@@ -16,24 +16,29 @@ import com.fishgo.posts.comments.dto.CommentStatsDto;
 import com.fishgo.posts.comments.dto.CommentWithFirstReplyResponseDto;
 import com.fishgo.posts.comments.dto.mapper.CommentMapper;
 import com.fishgo.posts.comments.repository.CommentRepository;
-import com.fishgo.posts.domain.Posts;
 import com.fishgo.posts.dto.PinpointDto;
 import com.fishgo.posts.dto.PostListResponseDto;
 import com.fishgo.posts.dto.PostStatsDto;
-import com.fishgo.posts.dto.mapper.PostsMapper;
+import com.fishgo.posts.event.PinpointChangedEvent;
+import com.fishgo.posts.event.UserPostsActiveChangedEvent;
 import com.fishgo.posts.respository.PostsRepository;
+import com.fishgo.posts.service.CatchHeatmapService;
+import com.fishgo.posts.service.PostsLikeService;
+import com.fishgo.posts.service.HashtagService;
 import com.fishgo.users.domain.Profile;
 import com.fishgo.users.domain.UserStatus;
 import com.fishgo.users.domain.Users;
 import com.fishgo.users.dto.*;
 import com.fishgo.users.dto.mapper.UserMapper;
 import com.fishgo.users.repository.ProfileRepository;
+import com.fishgo.users.event.ProfileNameChangedEvent;
 import com.fishgo.users.repository.UsersRepository;
 import jakarta.mail.MessagingException;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -55,7 +60,6 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class UsersService {
 
-    private final PostsMapper postsMapper;
     @Value("${user.upload.path}")
     String uploadPath;
 
@@ -73,6 +77,10 @@ public class UsersService {
     private final EmailService emailService;
 
     private final CommentMapper commentMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HashtagService hashtagService;
+    private final CatchHeatmapService catchHeatmapService;
+    private final PostsLikeService postsLikeService;
 
     /**
      * 회원가입 처리 및 프로필 디렉토리 생성
@@ -117,6 +125,7 @@ public class UsersService {
 
         // DB 저장
         Users saveUser = usersRepository.save(user);
+        eventPublisher.publishEvent(new ProfileNameChangedEvent(saveUser.getId(), null, profile.getName()));
 
         // 프로필 디렉토리 생성
         createUserDir(saveUser.getId());
@@ -144,6 +153,7 @@ public class UsersService {
 
             // DB 저장
             Users saveUser = usersRepository.save(user);
+            eventPublisher.publishEvent(new ProfileNameChangedEvent(saveUser.getId(), null, profile.getName()));
             // 프로필 디렉토리 생성
             createUserDir(saveUser.getId());
 
@@ -228,8 +238,12 @@ public class UsersService {
         persistedUser.setWithdrawRequestedAt(LocalDateTime.now());
 
         // 사용자의 게시글 및 댓글 비활성화 처리
+        hashtagService.applyUserPostsActiveChange(userId, false);
+        catchHeatmapService.applyUserPostsActiveChange(userId, false);
+        publishPinpointChanges(userId, false);
         postsRepository.updatePostsIsActiveByUserId(userId, false);
         commentRepository.updateCommentStatusByUserId(userId, CommentStatus.USER_WITHDRAW);
+        eventPublisher.publishEvent(new UserPostsActiveChangedEvent(userId, false));
 
         log.debug("withDrawUser successful userId : {}", userId);
     }
@@ -244,8 +258,12 @@ public class UsersService {
         persistedUser.setWithdrawRequestedAt(null);
 
         // 사용자의 게시글 및 댓글 재활성화 처리
+        hashtagService.applyUserPostsActiveChange(userId, true);
+        catchHeatmapService.applyUserPostsActiveChange(userId, true);
+        publishPinpointChanges(userId, true);
         postsRepository.updatePostsIsActiveByUserId(userId, true);
         commentRepository.updateCommentStatusByUserId(userId, CommentStatus.ACTIVE);
+        eventPublisher.publishEvent(new UserPostsActiveChangedEvent(userId, true));
 
     }
 
@@ -373,6 +391,23 @@ public class UsersService {
         return ImagePathHelper.buildProfileImagePath(profileImgName, currentUser.getId());
     }
 
+    // 게시글 일괄 활성/비활성 전환으로 지도 표시 상태가 바뀌는 게시글 이벤트 발행 (전환 쿼리보다 먼저 호출해야 함)
+    private void publishPinpointChanges(Long userId, boolean active) {
+        List<PinpointChangedEvent.Change> changes = postsRepository.findPinpointsToggledByUserActive(userId, active)
+                .stream()
+                .map(pin -> {
+                    PinpointChangedEvent.Pin location = new PinpointChangedEvent.Pin(pin.getLat(), pin.getLon());
+                    return active
+                            ? new PinpointChangedEvent.Change(pin.getPostId(), null, location)
+                            : new PinpointChangedEvent.Change(pin.getPostId(), location, null);
+                })
+                .toList();
+
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new PinpointChangedEvent(changes));
+        }
+    }
+
     /**
      * 유저 이름 업데이트
      * @param currentUser 현재 로그인한 유저 정보 객체
@@ -386,9 +421,11 @@ public class UsersService {
             throw new IllegalArgumentException("이미 존재하는 이름입니다.");
         }
 
+        String oldName = currentUser.getProfile().getName();
         currentUser.getProfile().setName(profileName);
 
         usersRepository.save(currentUser);
+        eventPublisher.publishEvent(new ProfileNameChangedEvent(currentUser.getId(), oldName, profileName));
     }
 
     private Profile setRegisteredProfile() {
@@ -430,9 +467,10 @@ public class UsersService {
     }
 
     public Page<PostListResponseDto> getMyPosts(Pageable pageable, Users currentUser) {
-        Page<Posts> myPostsEntity = postsRepository.findAllByUsers_Id(currentUser.getId(), pageable);
-
-        return myPostsEntity.map(postsMapper::toPostListResponseDto);
+        Page<PostListResponseDto> posts = postsRepository.findPostListByUserId(currentUser.getId(), pageable);
+        postsLikeService.applyPendingLikeCounts(posts.getContent());
+        postsLikeService.fillLikedByMe(posts.getContent(), currentUser);
+        return posts;
     }
 
     public Page<CommentWithFirstReplyResponseDto> getMyComments(Pageable pageable, Users currentUser) {
@@ -0,0 +1,60 @@
+package com.fishgo.common.util;
+
+import com.fishgo.common.exception.CustomException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorHelperTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_000);
+
+    @Test
+    void encode_decode_왕복() {
+        CursorHelper.Cursor cursor = CursorHelper.decode(CursorHelper.encode(CREATED_AT, 42L));
+
+        assertThat(cursor.createdAt()).isEqualTo(CREATED_AT);
+        assertThat(cursor.id()).isEqualTo(42L);
+    }
+
+    @Test
+    void encodeDistance_decodeDistance_왕복() {
+        CursorHelper.DistanceCursor cursor = CursorHelper.decodeDistance(CursorHelper.encodeDistance(3.14159, 7L));
+
+        assertThat(cursor.distance()).isEqualTo(3.14159);
+        assertThat(cursor.id()).isEqualTo(7L);
+    }
+
+    @Test
+    void encodeReply_decodeReply_왕복() {
+        CursorHelper.ReplyCursor cursor = CursorHelper.decodeReply(CursorHelper.encodeReply(CREATED_AT, 9L, 11L));
+
+        assertThat(cursor.createdAt()).isEqualTo(CREATED_AT);
+        assertThat(cursor.id()).isEqualTo(9L);
+        assertThat(cursor.seen()).isEqualTo(11L);
+    }
+
+    @Test
+    void 커서는_URL_안전_문자만_사용() {
+        assertThat(CursorHelper.encodeReply(CREATED_AT, Long.MAX_VALUE, 1L)).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void 잘못된_커서는_CustomException() {
+        assertThatThrownBy(() -> CursorHelper.decode("not a cursor")).isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> CursorHelper.decodeDistance("")).isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    void 다른_종류의_커서는_CustomException() {
+        String reply = CursorHelper.encodeReply(CREATED_AT, 1L, 2L);
+        String feed = CursorHelper.encode(CREATED_AT, 1L);
+
+        assertThatThrownBy(() -> CursorHelper.decode(reply)).isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> CursorHelper.decodeReply(feed)).isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> CursorHelper.decodeDistance(feed)).isInstanceOf(CustomException.class);
+    }
+}
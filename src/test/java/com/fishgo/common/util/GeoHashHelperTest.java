@@ -0,0 +1,62 @@
+package com.fishgo.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GeoHashHelperTest {
+
+    @Test
+    void encode_알려진_좌표() {
+        assertThat(GeoHashHelper.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(GeoHashHelper.encode(57.64911, 10.40744, 5)).isEqualTo("u4pru");
+    }
+
+    @Test
+    void decodeCenter_셀_안의_좌표() {
+        double[] center = GeoHashHelper.decodeCenter(GeoHashHelper.encode(37.5665, 126.9780, 9));
+
+        assertThat(center[0]).isCloseTo(37.5665, within(0.0001));
+        assertThat(center[1]).isCloseTo(126.9780, within(0.0001));
+    }
+
+    @Test
+    void coverRanges_전체_영역은_바이트_순서로_모든_지오해시를_포함() {
+        List<GeoHashHelper.Range> ranges = GeoHashHelper.coverRanges(-90, -180, 90, 180, 64);
+
+        // 상한 없는 범위는 바이트 순서(COLLATE "C")에서만 모든 지오해시보다 큼
+        assertThat(ranges).hasSize(1);
+        assertThat(inAnyRange(ranges, "000000000")).isTrue();
+        assertThat(inAnyRange(ranges, "zzzzzzzzz")).isTrue();
+    }
+
+    @Test
+    void coverRanges_영역_안의_점은_모두_범위에_포함() {
+        double minLat = 37.40, minLon = 126.80, maxLat = 37.70, maxLon = 127.20;
+        List<GeoHashHelper.Range> ranges = GeoHashHelper.coverRanges(minLat, minLon, maxLat, maxLon, 64);
+
+        assertThat(ranges.size()).isLessThanOrEqualTo(64);
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            double lat = minLat + random.nextDouble() * (maxLat - minLat);
+            double lon = minLon + random.nextDouble() * (maxLon - minLon);
+            String hash = GeoHashHelper.encode(lat, lon, GeoHashHelper.MAX_PRECISION);
+
+            assertThat(inAnyRange(ranges, hash)).as("%s (%f, %f)", hash, lat, lon).isTrue();
+        }
+    }
+
+    @Test
+    void coverCells_셀_수_초과시_null() {
+        assertThat(GeoHashHelper.coverCells(-90, -180, 90, 180, 3, 64)).isNull();
+        assertThat(GeoHashHelper.coverCells(37.5, 127.0, 37.5, 127.0, 5, 1)).hasSize(1);
+    }
+
+    private static boolean inAnyRange(List<GeoHashHelper.Range> ranges, String hash) {
+        return ranges.stream().anyMatch(r -> hash.compareTo(r.low()) >= 0 && hash.compareTo(r.high()) < 0);
+    }
+}
@@ -0,0 +1,120 @@
+package com.fishgo.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GridPointIndexTest {
+
+    @Test
+    void 영역_안의_점을_id_역순으로_최대_limit_개_반환() {
+        GridPointIndex index = new GridPointIndex();
+        index.load(new long[]{1, 2, 3, 4},
+                new double[]{37.50, 37.51, 37.52, 35.10},
+                new double[]{127.00, 127.01, 127.02, 129.00});
+
+        assertThat(ids(index.query(37.4, 126.9, 37.6, 127.1, 10))).containsExactly(3L, 2L, 1L);
+        assertThat(ids(index.query(37.4, 126.9, 37.6, 127.1, 2))).containsExactly(3L, 2L);
+        assertThat(index.query(37.4, 126.9, 37.6, 127.1, 0)).isEmpty();
+    }
+
+    @Test
+    void 오버레이의_추가_이동_삭제가_기본_배열보다_우선() {
+        GridPointIndex index = new GridPointIndex();
+        index.load(new long[]{1, 2}, new double[]{37.50, 37.51}, new double[]{127.00, 127.01});
+
+        index.put(1, 35.10, 129.00);   // 영역 밖으로 이동
+        index.remove(2);
+        index.put(5, 37.55, 127.05);   // 신규
+
+        assertThat(ids(index.query(37.4, 126.9, 37.6, 127.1, 10))).containsExactly(5L);
+        assertThat(ids(index.query(35.0, 128.9, 35.2, 129.1, 10))).containsExactly(1L);
+        assertThat(index.overlaySize()).isEqualTo(3);
+    }
+
+    @Test
+    void compact_후에도_같은_결과() {
+        GridPointIndex index = new GridPointIndex();
+        index.load(new long[]{1, 2}, new double[]{37.50, 37.51}, new double[]{127.00, 127.01});
+        index.put(1, 35.10, 129.00);
+        index.remove(2);
+        index.put(5, 37.55, 127.05);
+
+        index.compact();
+
+        assertThat(index.overlaySize()).isZero();
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(ids(index.query(37.4, 126.9, 37.6, 127.1, 10))).containsExactly(5L);
+        assertThat(ids(index.query(35.0, 128.9, 35.2, 129.1, 10))).containsExactly(1L);
+    }
+
+    @Test
+    void load_는_적재_중_반영된_오버레이를_유지() {
+        GridPointIndex index = new GridPointIndex();
+        index.put(9, 37.50, 127.00);
+        index.load(new long[]{1}, new double[]{37.51}, new double[]{127.01});
+
+        assertThat(ids(index.query(37.4, 126.9, 37.6, 127.1, 10))).containsExactly(9L, 1L);
+    }
+
+    @Test
+    void 동시_쓰기와_조회() throws Exception {
+        GridPointIndex index = new GridPointIndex();
+        int count = 10_000;
+        long[] ids = new long[count];
+        double[] lats = new double[count];
+        double[] lons = new double[count];
+        Random random = new Random(7);
+        for (int i = 0; i < count; i++) {
+            ids[i] = i + 1;
+            lats[i] = 37.0 + random.nextDouble();
+            lons[i] = 127.0 + random.nextDouble();
+        }
+        index.load(ids, lats, lons);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int offset = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        long id = count + 1 + offset * 1000L + i;
+                        index.put(id, 37.5, 127.5);
+                        if (i % 100 == 0) index.compact();
+                    }
+                }));
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        List<GridPointIndex.Point> result = index.query(37.0, 127.0, 38.0, 128.0, 50);
+                        assertThat(result).hasSizeLessThanOrEqualTo(50);
+                        for (int j = 1; j < result.size(); j++) {
+                            assertThat(result.get(j - 1).id()).isGreaterThan(result.get(j).id());
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        index.compact();
+        assertThat(index.size()).isEqualTo(count + 4000);
+        assertThat(ids(index.query(37.0, 127.0, 38.0, 128.0, 1))).containsExactly(count + 4000L);
+    }
+
+    private static List<Long> ids(List<GridPointIndex.Point> points) {
+        return points.stream().map(GridPointIndex.Point::id).toList();
+    }
+}
@@ -0,0 +1,34 @@
+package com.fishgo.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HighlightHelperTest {
+
+    @Test
+    void 대소문자_무시하고_모든_일치_강조() {
+        assertThat(HighlightHelper.highlight("big Bass and BASS", "bass"))
+                .isEqualTo("big <em>Bass</em> and <em>BASS</em>");
+    }
+
+    @Test
+    void 강조_외_본문은_HTML_이스케이프() {
+        assertThat(HighlightHelper.highlight("<b>광어</b> 낚시", "광어"))
+                .isEqualTo("&lt;b&gt;<em>광어</em>&lt;/b&gt; 낚시");
+    }
+
+    @Test
+    void 소문자_변환시_길이가_바뀌는_문자가_있어도_원문_위치로_강조() {
+        // "İ".toLowerCase(Locale.ROOT) 는 두 글자가 되어 변환본의 위치로 원문을 자르면 어긋남
+        assertThat(HighlightHelper.highlight("İİ bass", "bass")).isEqualTo("İİ <em>bass</em>");
+        assertThat(HighlightHelper.highlight("bass İ", "İ")).isEqualTo("bass <em>İ</em>");
+    }
+
+    @Test
+    void 일치가_없거나_검색어가_비면_이스케이프만() {
+        assertThat(HighlightHelper.highlight("a & b", "zzz")).isEqualTo("a &amp; b");
+        assertThat(HighlightHelper.highlight("a & b", "")).isEqualTo("a &amp; b");
+        assertThat(HighlightHelper.highlight(null, "a")).isNull();
+    }
+}
@@ -0,0 +1,59 @@
+package com.fishgo.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LruCacheTest {
+
+    @Test
+    void 최대_크기를_넘으면_가장_오래_사용되지_않은_항목을_축출() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.put("c", 3);
+
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isEqualTo(1);
+        assertThat(cache.get("c")).isEqualTo(3);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 적중과_미스_횟수_집계() {
+        LruCache<String, Integer> cache = new LruCache<>(10);
+        cache.put("a", 1);
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 만료된_항목은_미스() throws InterruptedException {
+        LruCache<String, Integer> cache = new LruCache<>(10, 1);
+        cache.put("a", 1);
+        Thread.sleep(10);
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void removeIf_와_clear() {
+        LruCache<String, Integer> cache = new LruCache<>(10);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+
+        cache.removeIf((key, value) -> value % 2 == 1);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("b")).isEqualTo(2);
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+    }
+}
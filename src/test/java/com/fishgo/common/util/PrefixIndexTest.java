@@ -0,0 +1,65 @@
+package com.fishgo.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixIndexTest {
+
+    @Test
+    void 접두어_일치_항목을_점수순으로_반환() {
+        PrefixIndex index = new PrefixIndex();
+        index.load(Map.of("bass", 5L, "bream", 10L, "barracuda", 1L, "carp", 100L));
+
+        assertThat(index.search("b", 10)).containsExactly("bream", "bass", "barracuda");
+        assertThat(index.search("BA", 1)).containsExactly("bass");
+        assertThat(index.search("x", 10)).isEmpty();
+    }
+
+    @Test
+    void 대소문자만_다른_항목은_각각_유지() {
+        PrefixIndex index = new PrefixIndex();
+        index.load(Map.of("Bass", 3L, "bass", 7L));
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("ba", 10)).containsExactly("bass", "Bass");
+
+        assertThat(index.remove("Bass")).isEqualTo(3L);
+        assertThat(index.search("ba", 10)).containsExactly("bass");
+    }
+
+    @Test
+    void addScore_없는_항목은_추가하고_있는_항목은_증감() {
+        PrefixIndex index = new PrefixIndex();
+        index.addScore("광어", 2);
+        index.addScore("광어", 3);
+        index.add("광어낚시", 4);
+        index.add("광어낚시", 100);
+
+        assertThat(index.search("광어", 10)).containsExactly("광어", "광어낚시");
+        assertThat(index.remove("광어")).isEqualTo(5L);
+        assertThat(index.remove("없음")).isZero();
+    }
+
+    @Test
+    void 식별자를_항목과_함께_보관() {
+        PrefixIndex index = new PrefixIndex();
+        index.load(List.of(new PrefixIndex.Entry("낚시왕", 7L, 3L), new PrefixIndex.Entry("낚시꾼", 9L, 5L)));
+
+        assertThat(index.searchEntries("낚시", 10)).containsExactly(
+                new PrefixIndex.Entry("낚시꾼", 9L, 5L),
+                new PrefixIndex.Entry("낚시왕", 7L, 3L));
+
+        // 이름 변경 (점수는 유지, 식별자는 그대로)
+        index.add("바다낚시꾼", 9L, index.remove("낚시꾼"));
+        index.add("낚시초보", 11L, 0);
+
+        assertThat(index.searchEntries("낚시", 10))
+                .extracting(PrefixIndex.Entry::id)
+                .containsExactly(7L, 11L);
+        assertThat(index.searchEntries("바다", 1)).containsExactly(new PrefixIndex.Entry("바다낚시꾼", 9L, 5L));
+    }
+}
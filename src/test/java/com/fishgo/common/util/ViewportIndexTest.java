@@ -0,0 +1,42 @@
+package com.fishgo.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ViewportIndexTest {
+
+    @Test
+    void 점을_포함하는_영역만_반환() {
+        ViewportIndex<String> index = new ViewportIndex<>();
+        index.put("seoul", 37.4, 126.8, 37.7, 127.2);
+        index.put("busan", 35.0, 128.9, 35.3, 129.3);
+
+        assertThat(index.find(37.5665, 126.9780)).containsExactly("seoul");
+        assertThat(index.find(35.1796, 129.0756)).containsExactly("busan");
+        assertThat(index.find(33.5, 126.5)).isEmpty();
+    }
+
+    @Test
+    void 같은_키로_다시_등록하면_영역_교체() {
+        ViewportIndex<String> index = new ViewportIndex<>();
+        index.put("a", 37.4, 126.8, 37.7, 127.2);
+        index.put("a", 35.0, 128.9, 35.3, 129.3);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.find(37.5665, 126.9780)).isEmpty();
+        assertThat(index.find(35.1796, 129.0756)).containsExactly("a");
+    }
+
+    @Test
+    void 넓은_영역도_조회되고_해제됨() {
+        ViewportIndex<String> index = new ViewportIndex<>();
+        index.put("korea", 33.0, 124.0, 39.0, 132.0);
+
+        assertThat(index.find(37.5665, 126.9780)).containsExactly("korea");
+
+        index.remove("korea");
+        assertThat(index.find(37.5665, 126.9780)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+}
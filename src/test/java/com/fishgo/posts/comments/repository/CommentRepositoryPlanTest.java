@@ -0,0 +1,117 @@
+package com.fishgo.posts.comments.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fishgo.support.PostgresRepositoryTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 부모 댓글 + 첫 번째 대댓글 조회가 인덱스만으로 해당 게시글의 댓글을 읽는지 실행 계획으로 확인합니다.
+ * 댓글이 많은 게시글과 적은 게시글을 함께 두어, 적은 게시글 조회 시 comment 전체를 읽지 않아야 합니다.
+ */
+class CommentRepositoryPlanTest extends PostgresRepositoryTest {
+
+    private static final int USERS = 100;
+    private static final int BUSY_POST_PARENTS = 20_000;
+    private static final int QUIET_POST_PARENTS = 20;
+    private static final int REPLIES_PER_PARENT = 3;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private long quietPostId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, email, password, role, status)
+                SELECT g, 'user' || g || '@fishgo.test', 'password', 'USER', 'ACTIVE'
+                FROM generate_series(1, ?) AS g
+                """, USERS);
+        jdbcTemplate.update("""
+                INSERT INTO profile (id, user_id, name)
+                SELECT g, g, '낚시꾼' || g FROM generate_series(1, ?) AS g
+                """, USERS);
+
+        long busyPostId = insertPost("댓글이 많은 게시글");
+        quietPostId = insertPost("댓글이 적은 게시글");
+        insertComments(busyPostId, BUSY_POST_PARENTS);
+        insertComments(quietPostId, QUIET_POST_PARENTS);
+
+        jdbcTemplate.execute("ANALYZE comment");
+        jdbcTemplate.execute("ANALYZE profile");
+        jdbcTemplate.execute("ANALYZE comment_mention");
+    }
+
+    @Test
+    void 부모_댓글과_첫_대댓글은_인덱스로_조회한다() throws Exception {
+        JsonNode plan = explain(parentCommentsQuery() + " LIMIT 20", quietPostId);
+
+        List<JsonNode> nodes = new ArrayList<>();
+        collectNodes(plan, nodes);
+
+        assertThat(nodes)
+                .extracting(node -> node.path("Index Name").asText())
+                .contains("idx_comment_post_parent_created", "idx_comment_parent_created");
+        assertThat(nodes)
+                .filteredOn(node -> "comment".equals(node.path("Relation Name").asText()))
+                .extracting(node -> node.path("Node Type").asText())
+                .doesNotContain("Seq Scan");
+    }
+
+    private long insertPost(String title) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO posts (user_id, title, like_count, view_count, is_active)
+                VALUES (1, ?, 0, 0, true)
+                RETURNING id
+                """, Long.class, title);
+    }
+
+    // 부모 댓글과 부모마다 REPLIES_PER_PARENT 개의 대댓글 생성
+    private void insertComments(long postId, int parents) {
+        jdbcTemplate.update("""
+                INSERT INTO comment (user_id, posts_id, contents, like_count, reply_count, status, created_at)
+                SELECT g % ? + 1, ?, '댓글 ' || g, 0, ?, 'ACTIVE', now() - g * interval '1 minute'
+                FROM generate_series(1, ?) AS g
+                """, USERS, postId, REPLIES_PER_PARENT, parents);
+        jdbcTemplate.update("""
+                INSERT INTO comment (user_id, posts_id, parent_id, contents, like_count, reply_count, status, created_at)
+                SELECT c.user_id, c.posts_id, c.id, '대댓글 ' || r, 0, 0, 'ACTIVE', c.created_at + r * interval '1 second'
+                FROM comment c, generate_series(1, ?) AS r
+                WHERE c.posts_id = ? AND c.parent_id IS NULL
+                """, REPLIES_PER_PARENT, postId);
+    }
+
+    // 리포지토리에 선언된 네이티브 쿼리 원문 (페이지 조건은 호출 측에서 덧붙임)
+    private static String parentCommentsQuery() throws NoSuchMethodException {
+        return CommentRepository.class
+                .getMethod("findParentCommentsWithFirstReply", Long.class, Pageable.class)
+                .getAnnotation(Query.class)
+                .value()
+                .replace(":postId", "?");
+    }
+
+    private JsonNode explain(String sql, Object... args) throws Exception {
+        String json = jdbcTemplate.queryForObject("EXPLAIN (ANALYZE, FORMAT JSON) " + sql, String.class, args);
+        return objectMapper.readTree(json).get(0).get("Plan");
+    }
+
+    private static void collectNodes(JsonNode node, List<JsonNode> nodes) {
+        nodes.add(node);
+        for (JsonNode child : node.path("Plans")) {
+            collectNodes(child, nodes);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.fishgo.posts.respository;
+
+import com.fishgo.support.PostgresRepositoryTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 각 요청이 별도 트랜잭션으로 커밋되어야 하므로 테스트 트랜잭션을 쓰지 않음
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostsLikeConcurrencyTest extends PostgresRepositoryTest {
+
+    private static final int TASKS = 1000;
+    private static final int USERS = 500;
+
+    @Autowired
+    private PostsLikeRepository postsLikeRepository;
+    @Autowired
+    private PostsRepository postsRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private long postId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("TRUNCATE posts_like, posts, users CASCADE");
+        jdbcTemplate.update("""
+                INSERT INTO users (id, email, password, role, status)
+                SELECT g, 'user' || g || '@fishgo.test', 'password', 'USER', 'ACTIVE'
+                FROM generate_series(1, ?) AS g
+                """, USERS);
+        postId = jdbcTemplate.queryForObject("""
+                INSERT INTO posts (user_id, title, like_count, view_count, is_active)
+                VALUES (1, '동시성 테스트', 0, 0, true)
+                RETURNING id
+                """, Long.class);
+    }
+
+    @Test
+    void 같은_사용자의_동시_좋아요는_한_번만_반영된다() throws Exception {
+        // 사용자마다 두 번씩 동시에 좋아요
+        int liked = runConcurrently(i -> like(userOf(i)));
+
+        assertThat(liked).isEqualTo(USERS);
+        assertThat(likeRows()).isEqualTo(USERS);
+        assertThat(likeCount()).isEqualTo(USERS);
+
+        // 사용자마다 두 번씩 동시에 좋아요 취소
+        int unliked = runConcurrently(i -> unlike(userOf(i)));
+
+        assertThat(unliked).isEqualTo(USERS);
+        assertThat(likeRows()).isZero();
+        assertThat(likeCount()).isZero();
+    }
+
+    @Test
+    void 좋아요와_취소가_섞여도_좋아요_수는_이력_수와_같다() throws Exception {
+        runConcurrently(i -> like(userOf(i)));
+
+        // 같은 사용자의 좋아요와 취소를 동시에 요청 (순서에 따라 결과는 달라도 수는 일치해야 함)
+        runConcurrently(i -> i % 2 == 0 ? unlike(userOf(i / 2)) : like(userOf(i / 2)));
+
+        assertThat(likeCount()).isEqualTo(likeRows());
+    }
+
+    // 1 ~ USERS 범위의 사용자 아이디
+    private static long userOf(int task) {
+        return task % USERS + 1;
+    }
+
+    // PostsLikeService.likePosts 와 같은 순서로 이력 추가 후 좋아요 수 증가
+    private boolean like(long userId) {
+        return Boolean.TRUE.equals(new TransactionTemplate(transactionManager).execute(status -> {
+            if (postsLikeRepository.insertIgnoringConflict(postId, userId) == 0) {
+                return false;
+            }
+            postsRepository.addLikeCount(postId, 1);
+            return true;
+        }));
+    }
+
+    // PostsLikeService.unlikePosts 와 같은 순서로 이력 삭제 후 좋아요 수 감소
+    private boolean unlike(long userId) {
+        return Boolean.TRUE.equals(new TransactionTemplate(transactionManager).execute(status -> {
+            if (postsLikeRepository.deleteByPostIdAndUserIdReturningCount(postId, userId) == 0) {
+                return false;
+            }
+            postsRepository.addLikeCount(postId, -1);
+            return true;
+        }));
+    }
+
+    // TASKS 개의 작업을 동시에 시작하고 성공한 작업 수를 반환
+    private int runConcurrently(IntPredicate task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>(TASKS);
+            for (int i = 0; i < TASKS; i++) {
+                int index = i;
+                Callable<Boolean> call = () -> {
+                    start.await();
+                    return task.test(index);
+                };
+                futures.add(executor.submit(call));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Boolean> future : futures) {
+                if (future.get()) succeeded++;
+            }
+            return succeeded;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int likeRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM posts_like WHERE post_id = ?", Integer.class, postId);
+    }
+
+    private int likeCount() {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM posts WHERE id = ?", Integer.class, postId);
+    }
+}
@@ -0,0 +1,144 @@
+package com.fishgo.posts.respository;
+
+import com.fishgo.posts.dto.PostListResponseDto;
+import com.fishgo.posts.dto.projection.PostSearchProjection;
+import com.fishgo.support.PostgresRepositoryTest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 목록 조회 경로가 페이지 크기와 관계없이 고정된 수의 SQL 만 실행하는지 확인합니다. (N+1 회귀 방지)
+ * 목록은 한 번의 조회로 작성자/썸네일까지 가져오고, Page 는 COUNT 쿼리가 하나 더 실행됩니다.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PostsRepositoryQueryCountTest extends PostgresRepositoryTest {
+
+    private static final long USER_ID = 1L;
+    private static final int POSTS = 30;
+
+    @Autowired
+    private PostsRepository postsRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private long hashtagId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, email, password, role, status)
+                VALUES (?, 'user@fishgo.test', 'password', 'USER', 'ACTIVE')
+                """, USER_ID);
+        jdbcTemplate.update("INSERT INTO profile (id, user_id, name, profile_img) VALUES (1, ?, '낚시꾼', 'me.png')", USER_ID);
+        hashtagId = jdbcTemplate.queryForObject("INSERT INTO hashtag (name) VALUES ('붕어') RETURNING id", Long.class);
+
+        jdbcTemplate.update("""
+                INSERT INTO posts (user_id, title, contents, like_count, view_count, is_active, created_at)
+                SELECT ?, '붕어 낚시 ' || g, '저수지에서 붕어 ' || g || '마리', g, g, true, now() - g * interval '1 hour'
+                FROM generate_series(1, ?) AS g
+                """, USER_ID, POSTS);
+        jdbcTemplate.update("""
+                INSERT INTO post_image (image_name, post_id)
+                SELECT 'image' || i || '.png', p.id FROM posts p, generate_series(1, 2) AS i
+                """);
+        jdbcTemplate.update("INSERT INTO post_hashtag (post_id, hashtag_id) SELECT id, ? FROM posts", hashtagId);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20})
+    void 게시글_목록(int size) {
+        assertStatementCount(2, () -> postsRepository.findPostList(PageRequest.of(0, size)).getContent(), size);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20})
+    void 피드(int size) {
+        assertStatementCount(1, () -> postsRepository.findFeed(PageRequest.of(0, size)).getContent(), size);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20})
+    void 해시태그_게시글_목록(int size) {
+        assertStatementCount(1, () -> postsRepository.findPostListByHashtag(hashtagId, PageRequest.of(0, size)).getContent(), size);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20})
+    void 내_게시글_목록(int size) {
+        assertStatementCount(2, () -> postsRepository.findPostListByUserId(USER_ID, PageRequest.of(0, size)).getContent(), size);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20})
+    void 게시글_검색(int size) {
+        Pageable pageable = PageRequest.of(0, size);
+        assertSearchStatementCount(() -> postsRepository.searchByRelevance("붕어 낚시", "%붕어 낚시%", pageable).getContent(), size);
+        assertSearchStatementCount(() -> postsRepository.searchByRecent("붕어 낚시", "%붕어 낚시%", pageable).getContent(), size);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20})
+    void 짧은_검색어_게시글_검색(int size) {
+        Pageable pageable = PageRequest.of(0, size);
+        assertSearchStatementCount(() -> postsRepository.searchShortByRelevance("붕어", "%붕어%", pageable).getContent(), size);
+        assertSearchStatementCount(() -> postsRepository.searchShortByRecent("붕어", "%붕어%", pageable).getContent(), size);
+    }
+
+    private void assertStatementCount(long expected, Supplier<List<PostListResponseDto>> query, int size) {
+        Statistics statistics = statistics();
+
+        List<PostListResponseDto> posts = query.get();
+        // 응답 변환에서 읽는 값까지 모두 접근해도 추가 조회가 없어야 함
+        posts.forEach(post -> {
+            post.getUserName();
+            post.getUserProfileImg();
+            post.getThumbnail();
+        });
+
+        assertThat(posts).hasSize(size);
+        assertThat(posts).allSatisfy(post -> assertThat(post.getThumbnail()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+    }
+
+    private void assertSearchStatementCount(Supplier<List<PostSearchProjection>> query, int size) {
+        Statistics statistics = statistics();
+
+        List<PostSearchProjection> posts = query.get();
+        posts.forEach(post -> {
+            post.getName();
+            post.getThumbnail();
+            post.getSnippetSource();
+        });
+
+        assertThat(posts).hasSize(size);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    // 영속성 컨텍스트를 비우고 통계를 초기화
+    private Statistics statistics() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
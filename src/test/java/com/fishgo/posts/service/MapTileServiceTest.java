@@ -0,0 +1,135 @@
+package com.fishgo.posts.service;
+
+import com.fishgo.common.exception.CustomException;
+import com.fishgo.posts.dto.PinpointDto;
+import com.fishgo.posts.event.PinpointIndexReloadedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MapTileServiceTest {
+
+    // 서울 시청이 포함된 줌 12 타일
+    private static final int Z = 12;
+    private static final int X = 3492;
+    private static final int Y = 1586;
+
+    private final MapService mapService = mock(MapService.class);
+    private final MapTileService mapTileService = new MapTileService(mapService);
+
+    @Test
+    void 타일_인코딩_디코딩() {
+        // MapService 는 최신 게시글(id 역순) 순으로 반환
+        givenPinpoints(List.of(
+                new PinpointDto(300L, 37.5665, 126.9780),
+                new PinpointDto(20L, 37.5600, 126.9700),
+                new PinpointDto(1L, 37.5700, 126.9900)));
+
+        Reader reader = new Reader(mapTileService.getTile(Z, X, Y).body());
+
+        assertThat(reader.readByte()).isEqualTo(2);     // version
+        assertThat(reader.readByte()).isEqualTo(0);     // flags
+        assertThat(reader.readVarint()).isEqualTo(3);   // count
+
+        // id 오름차순, 차이값 인코딩
+        long id = 0;
+        int x = 0;
+        int y = 0;
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            id += reader.readVarint();
+            x += unzigzag(reader.readVarint());
+            y += unzigzag(reader.readVarint());
+            ids.add(id);
+            assertThat(x).isBetween(0, 4095);
+            assertThat(y).isBetween(0, 4095);
+        }
+        assertThat(ids).containsExactly(1L, 20L, 300L);
+        assertThat(reader.remaining()).isZero();
+    }
+
+    @Test
+    void 최대_개수를_넘으면_잘림_플래그와_최신_게시글만_인코딩() {
+        List<PinpointDto> pinpoints = new ArrayList<>();
+        for (long id = 1001; id >= 1; id--) {
+            pinpoints.add(new PinpointDto(id, 37.5665, 126.9780));
+        }
+        givenPinpoints(pinpoints);
+
+        Reader reader = new Reader(mapTileService.getTile(Z, X, Y).body());
+
+        assertThat(reader.readByte()).isEqualTo(2);
+        assertThat(reader.readByte() & 1).isEqualTo(1);
+        assertThat(reader.readVarint()).isEqualTo(1000);
+        assertThat(reader.readVarint()).isEqualTo(2);   // 가장 오래된 id 1 은 제외
+    }
+
+    @Test
+    void 색인_재적재시_캐시된_타일을_버림() {
+        givenPinpoints(List.of(new PinpointDto(1L, 37.5665, 126.9780)));
+
+        MapTileService.Tile first = mapTileService.getTile(Z, X, Y);
+        assertThat(mapTileService.getTile(Z, X, Y)).isSameAs(first);
+        verify(mapService, times(1)).findPinpoints(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt());
+
+        mapTileService.handlePinpointIndexReloadedEvent(new PinpointIndexReloadedEvent());
+        mapTileService.getTile(Z, X, Y);
+        verify(mapService, times(2)).findPinpoints(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt());
+    }
+
+    @Test
+    void 범위를_벗어난_타일은_거부() {
+        assertThatThrownBy(() -> mapTileService.getTile(MapTileService.MIN_ZOOM - 1, 0, 0))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> mapTileService.getTile(Z, 1 << Z, 0))
+                .isInstanceOf(CustomException.class);
+    }
+
+    private void givenPinpoints(List<PinpointDto> pinpoints) {
+        when(mapService.findPinpoints(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt()))
+                .thenReturn(pinpoints);
+    }
+
+    private static int unzigzag(long value) {
+        int v = (int) value;
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        int readByte() {
+            return bytes[position++] & 0xFF;
+        }
+
+        long readVarint() {
+            long value = 0;
+            int shift = 0;
+            while (true) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+                shift += 7;
+            }
+        }
+
+        int remaining() {
+            return bytes.length - position;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.fishgo.support;
+
+import com.fishgo.config.DatabaseSchemaConfig;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * PostgreSQL 컨테이너를 사용하는 리포지토리 테스트 기반 클래스
+ * 엔티티 스키마는 Hibernate 가 만들고, 네이티브 스키마(인덱스, 함수 등)는 DatabaseSchemaConfig 가 만듭니다.
+ * Docker 를 사용할 수 없는 환경에서는 테스트를 건너뜁니다.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DatabaseSchemaConfig.class)
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+}